@@ -0,0 +1,176 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestCommitDetail;
+import org.kohsuke.github.GHPullRequestFileDetail;
+import org.kohsuke.github.GitHub;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates offline pull request instances and synthetic configurations, so benchmarks do not pay for mocking
+ * frameworks. Sizes up to the extreme cases seen in practice, e.g. 1k rules, 3k changed files or 100 KB bodies,
+ * can be generated.
+ */
+public final class BenchmarkPullRequests {
+
+    public static final String TITLE = "[WFLY-12345] Upgrade the subsystem component";
+
+    private static final String DESCRIPTION_HEADER = "https://issues.redhat.com/browse/WFLY-12345\n\n";
+
+    private static final String[] MODULES = { "ee", "ejb3", "jpa", "messaging-activemq", "undertow", "weld",
+            "clustering", "security", "transactions", "webservices" };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Reads the GitHub model classes through their fields, as they do not expose setters.
+     */
+    private static final ObjectMapper FIELD_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public static GHPullRequest pullRequest(String title, String body) throws IOException {
+        ObjectNode payload = OBJECT_MAPPER.createObjectNode();
+        payload.put("action", "opened");
+        payload.put("number", 1);
+        ObjectNode pullRequest = payload.putObject("pull_request");
+        pullRequest.put("number", 1);
+        pullRequest.put("title", title);
+        pullRequest.put("body", body);
+        pullRequest.putObject("user").put("login", "contributor");
+
+        return GitHub.offline()
+                .parseEventPayload(new StringReader(payload.toString()), GHEventPayload.PullRequest.class)
+                .getPullRequest();
+    }
+
+    /**
+     * @return pull request description starting with the issue link followed by lines of text
+     *         up to the given size
+     */
+    public static String body(int bytes) {
+        StringBuilder body = new StringBuilder(DESCRIPTION_HEADER);
+        while (body.length() < bytes) {
+            body.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit.\n");
+        }
+        body.setLength(Math.max(bytes, DESCRIPTION_HEADER.length()));
+        return body.toString();
+    }
+
+    /**
+     * @return snapshot with the files and commits already listed, so no GitHub requests are sent
+     */
+    public static PullRequestSnapshot snapshot(GHPullRequest pullRequest, int files, int commits) throws IOException {
+        List<GHPullRequestFileDetail> fileDetails = new ArrayList<>(files);
+        for (int i = 0; i < files; i++) {
+            fileDetails.add(FIELD_MAPPER.readValue(OBJECT_MAPPER.createObjectNode()
+                    .put("filename", path(i))
+                    .toString(), GHPullRequestFileDetail.class));
+        }
+
+        List<GHPullRequestCommitDetail> commitDetails = new ArrayList<>(commits);
+        for (int i = 0; i < commits; i++) {
+            ObjectNode commit = OBJECT_MAPPER.createObjectNode().put("sha", "%040x".formatted(i));
+            // only the last commit references the issue, so all commits are checked
+            commit.putObject("commit").put("message", i == commits - 1
+                    ? "[WFLY-12345] Commit number " + i
+                    : "Commit number " + i);
+            commitDetails.add(FIELD_MAPPER.readValue(commit.toString(), GHPullRequestCommitDetail.class));
+        }
+
+        return new ListedPullRequestSnapshot(pullRequest, List.copyOf(fileDetails), List.copyOf(commitDetails));
+    }
+
+    /**
+     * @return configuration with the given number of rules, each with a title, body or titleBody word and a directory
+     */
+    public static WildFlyConfigFile configFile(int rules) {
+        WildFlyConfigFile configFile = new WildFlyConfigFile();
+        for (int i = 0; i < rules; i++) {
+            WildFlyConfigFile.WildFlyRule rule = new WildFlyConfigFile.WildFlyRule();
+            rule.id = "rule-" + i;
+            switch (i % 3) {
+                case 0 -> rule.title = "component" + i;
+                case 1 -> rule.body = "component" + i;
+                default -> rule.titleBody = "component" + i;
+            }
+            rule.directories.add(directory(i));
+            rule.notify.add("user" + i);
+            configFile.wildfly.rules.add(rule);
+        }
+        return configFile;
+    }
+
+    /**
+     * @return YAML content of {@link #configFile(int)}
+     */
+    public static String configYaml(int rules) {
+        StringBuilder yaml = new StringBuilder("""
+                wildfly:
+                  format:
+                    title:
+                      enabled: true
+                    commit:
+                      enabled: true
+                  rules:
+                """);
+        for (int i = 0; i < rules; i++) {
+            yaml.append("    - id: \"rule-").append(i).append("\"\n")
+                    .append(switch (i % 3) {
+                        case 0 -> "      title: \"component";
+                        case 1 -> "      body: \"component";
+                        default -> "      titleBody: \"component";
+                    }).append(i).append("\"\n")
+                    .append("      directories: [").append(directory(i)).append("]\n")
+                    .append("      notify: [user").append(i).append("]\n");
+        }
+        return yaml.toString();
+    }
+
+    private static String directory(int i) {
+        return MODULES[i % MODULES.length] + "/subsystem" + i + "/src/main/java";
+    }
+
+    private static String path(int i) {
+        return directory(i) + "/org/jboss/as/Class" + i + ".java";
+    }
+
+    private static final class ListedPullRequestSnapshot extends PullRequestSnapshot {
+
+        private final List<GHPullRequestFileDetail> files;
+        private final List<GHPullRequestCommitDetail> commits;
+
+        private ListedPullRequestSnapshot(GHPullRequest pullRequest, List<GHPullRequestFileDetail> files,
+                List<GHPullRequestCommitDetail> commits) {
+            super(pullRequest);
+            this.files = files;
+            this.commits = commits;
+        }
+
+        @Override
+        public List<GHPullRequestFileDetail> files() {
+            return files;
+        }
+
+        @Override
+        public List<GHPullRequestCommitDetail> commits() {
+            return commits;
+        }
+    }
+
+    private BenchmarkPullRequests() {
+    }
+}
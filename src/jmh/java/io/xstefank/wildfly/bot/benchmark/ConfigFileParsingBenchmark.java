@@ -0,0 +1,59 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the configuration file, configured the same way as the YAML mapper of the GitHub App extension,
+ * with and without compiling the rules and building the directory index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigFileParsingBenchmark {
+
+    @Param({ "10", "1000" })
+    int rules;
+
+    private ObjectMapper yamlObjectMapper;
+    private String content;
+
+    @Setup
+    public void setup() {
+        yamlObjectMapper = new ObjectMapper(new YAMLFactory())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        content = BenchmarkPullRequests.configYaml(rules);
+    }
+
+    @Benchmark
+    public WildFlyConfigFile parse() throws IOException {
+        return yamlObjectMapper.readValue(content, WildFlyConfigFile.class);
+    }
+
+    @Benchmark
+    public WildFlyConfigFile parseAndCompile() throws IOException {
+        WildFlyConfigFile configFile = yamlObjectMapper.readValue(content, WildFlyConfigFile.class);
+        configFile.wildfly.getCompiledRules();
+        configFile.wildfly.getDirectoryIndex();
+        return configFile;
+    }
+}
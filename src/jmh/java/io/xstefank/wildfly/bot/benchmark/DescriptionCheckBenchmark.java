@@ -0,0 +1,90 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import io.xstefank.wildfly.bot.format.DescriptionCheck;
+import io.xstefank.wildfly.bot.model.Description;
+import io.xstefank.wildfly.bot.model.RegexDefinition;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The description check compared with the former check splitting the description into lines and matching
+ * all the lines with every regex. With {@code satisfied} all regexes are found on the first line
+ * of the description, otherwise the last regex is not found at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptionCheckBenchmark {
+
+    @Param({ "1024", "102400" })
+    int bodySize;
+
+    @Param({ "1", "10" })
+    int regexes;
+
+    @Param({ "true", "false" })
+    boolean satisfied;
+
+    private GHPullRequest pullRequest;
+    private Description description;
+    private DescriptionCheck descriptionCheck;
+
+    @Setup
+    public void setup() throws IOException {
+        pullRequest = BenchmarkPullRequests.pullRequest(BenchmarkPullRequests.TITLE,
+                BenchmarkPullRequests.body(bodySize));
+
+        List<RegexDefinition> definitions = new ArrayList<>();
+        for (int i = 0; i < regexes - 1; i++) {
+            definitions.add(new RegexDefinition(Pattern.compile("WFLY-\\d+"), null));
+        }
+        definitions.add(new RegexDefinition(satisfied
+                ? Pattern.compile("https://issues.redhat.com/browse/WFLY-\\d+")
+                : Pattern.compile("^Upstream PR: .*"), null));
+        description = new Description();
+        description.regexes = definitions;
+        descriptionCheck = new DescriptionCheck(description);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return descriptionCheck.check(pullRequest);
+    }
+
+    @Benchmark
+    public String splitLines() {
+        String[] lines = pullRequest.getBody().split("\\r?\\n");
+        for (RegexDefinition regexDefinition : description.regexes) {
+            boolean regexMatched = false;
+            for (String line : lines) {
+                if (regexDefinition.pattern.matcher(line).find()) {
+                    regexMatched = true;
+                    break;
+                }
+            }
+            if (!regexMatched) {
+                return "Invalid description content";
+            }
+        }
+        return null;
+    }
+}
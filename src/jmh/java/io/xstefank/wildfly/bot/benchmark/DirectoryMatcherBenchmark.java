@@ -0,0 +1,58 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.Matcher;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching of the files changed by a pull request against the directories of all rules, which decides
+ * the requested reviewers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectoryMatcherBenchmark {
+
+    @Param({ "100", "1000" })
+    int rules;
+
+    @Param({ "300", "3000" })
+    int files;
+
+    private WildFlyConfigFile configFile;
+    private PullRequestSnapshot snapshot;
+
+    @Setup
+    public void setup() throws IOException {
+        configFile = BenchmarkPullRequests.configFile(rules);
+        // the index is built once per configuration
+        configFile.wildfly.getDirectoryIndex();
+
+        snapshot = BenchmarkPullRequests.snapshot(
+                BenchmarkPullRequests.pullRequest(BenchmarkPullRequests.TITLE, BenchmarkPullRequests.body(1024)),
+                files, 1);
+    }
+
+    @Benchmark
+    public Set<?> matchDirectories() {
+        return Matcher.matchDirectories(snapshot, configFile.wildfly.getDirectoryIndex());
+    }
+}
@@ -0,0 +1,82 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import io.xstefank.wildfly.bot.format.CommitMessagesCheck;
+import io.xstefank.wildfly.bot.format.DescriptionCheck;
+import io.xstefank.wildfly.bot.format.TitleCheck;
+import io.xstefank.wildfly.bot.model.Description;
+import io.xstefank.wildfly.bot.model.RegexDefinition;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Format checks run on every pull request event, with the project pattern of the default configuration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatChecksBenchmark {
+
+    @Param({ "1024", "102400" })
+    int bodySize;
+
+    @Param({ "10", "250" })
+    int commits;
+
+    private PullRequestSnapshot snapshot;
+    private TitleCheck titleCheck;
+    private DescriptionCheck descriptionCheck;
+    private CommitMessagesCheck commitMessagesCheck;
+
+    @Setup
+    public void setup() throws IOException {
+        snapshot = BenchmarkPullRequests.snapshot(
+                BenchmarkPullRequests.pullRequest(BenchmarkPullRequests.TITLE, BenchmarkPullRequests.body(bodySize)),
+                1, commits);
+
+        Pattern projectPattern = new WildFlyConfigFile().wildfly.getProjectPattern();
+        titleCheck = new TitleCheck(new RegexDefinition(projectPattern, "Wrong content of the title"));
+        commitMessagesCheck = new CommitMessagesCheck(
+                new RegexDefinition(projectPattern, "One of the commit messages has wrong format"));
+
+        Description description = new Description();
+        // the second line is missing, so every line of the description is checked
+        description.regexes = List.of(
+                new RegexDefinition(Pattern.compile("https://issues.redhat.com/browse/WFLY-\\d+"), null),
+                new RegexDefinition(Pattern.compile("^Upstream PR: .*"), null));
+        descriptionCheck = new DescriptionCheck(description);
+    }
+
+    @Benchmark
+    public String title() throws IOException {
+        return titleCheck.check(snapshot);
+    }
+
+    @Benchmark
+    public String description() throws IOException {
+        return descriptionCheck.check(snapshot);
+    }
+
+    @Benchmark
+    public String commitMessages() throws IOException {
+        return commitMessagesCheck.check(snapshot);
+    }
+}
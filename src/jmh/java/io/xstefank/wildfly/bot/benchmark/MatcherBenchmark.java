@@ -0,0 +1,104 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.Matcher;
+import io.xstefank.wildfly.bot.util.Strings;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares matching of title/body rules against a pull request when the rule patterns are compiled
+ * for every event, when the precompiled {@link CompiledWildFlyRule}s are reused and when the plain words
+ * of all rules are matched at once by the {@link io.xstefank.wildfly.bot.util.RuleTextIndex}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatcherBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int rules;
+
+    private WildFlyConfigFile configFile;
+    private GHPullRequest pullRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        configFile = new WildFlyConfigFile();
+        for (int i = 0; i < rules; i++) {
+            WildFlyConfigFile.WildFlyRule rule = new WildFlyConfigFile.WildFlyRule();
+            rule.id = "rule-" + i;
+            switch (i % 3) {
+                case 0 -> rule.title = "component" + i;
+                case 1 -> rule.body = "component" + i;
+                default -> rule.titleBody = "component" + i;
+            }
+            configFile.wildfly.rules.add(rule);
+        }
+        // compile rules ahead, as it is done once per configuration
+        configFile.wildfly.getCompiledRules();
+        configFile.wildfly.getRuleTextIndex();
+
+        pullRequest = BenchmarkPullRequests.pullRequest("[WFLY-12345] Upgrade the subsystem component",
+                "https://issues.redhat.com/browse/WFLY-12345\n\n" + "Lorem ipsum dolor sit amet. ".repeat(100));
+    }
+
+    @Benchmark
+    public void compiledPerEvent(Blackhole blackhole) {
+        for (WildFlyConfigFile.WildFlyRule rule : configFile.wildfly.rules) {
+            blackhole.consume(notifyCommentCompilingPatterns(pullRequest, rule));
+        }
+    }
+
+    @Benchmark
+    public void precompiled(Blackhole blackhole) {
+        for (CompiledWildFlyRule rule : configFile.wildfly.getCompiledRules()) {
+            blackhole.consume(Matcher.notifyComment(pullRequest, rule));
+        }
+    }
+
+    @Benchmark
+    public void textIndex(Blackhole blackhole) {
+        blackhole.consume(Matcher.matchText(pullRequest, configFile.wildfly.getRuleTextIndex()));
+    }
+
+    /**
+     * Previous implementation of {@link Matcher#notifyComment}, which compiled the patterns on every call.
+     */
+    private static boolean notifyCommentCompilingPatterns(GHPullRequest pullRequest, WildFlyConfigFile.WildFlyRule rule) {
+        if (Strings.isNotBlank(rule.title) && find(rule.title, pullRequest.getTitle())) {
+            return true;
+        }
+        if (Strings.isNotBlank(rule.body) && find(rule.body, pullRequest.getBody())) {
+            return true;
+        }
+        return Strings.isNotBlank(rule.titleBody)
+                && (find(rule.titleBody, pullRequest.getTitle()) || find(rule.titleBody, pullRequest.getBody()));
+    }
+
+    private static boolean find(String word, String string) {
+        if (Strings.isBlank(string)) {
+            return false;
+        }
+        return Pattern.compile("\\b(" + word + ")\\b", Pattern.DOTALL | Pattern.CASE_INSENSITIVE).matcher(string).find();
+    }
+}
@@ -0,0 +1,59 @@
+package io.xstefank.wildfly.bot.benchmark;
+
+import io.xstefank.wildfly.bot.util.Patterns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Whole word search of a rule in pull request descriptions of different sizes, both when the word is found
+ * right at the beginning and when the whole description has to be scanned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatternsBenchmark {
+
+    @Param({ "1024", "102400" })
+    int bodySize;
+
+    private String body;
+    private Pattern found;
+    private Pattern notFound;
+
+    @Setup
+    public void setup() {
+        body = BenchmarkPullRequests.body(bodySize);
+        found = Patterns.compileWord("WFLY-12345");
+        notFound = Patterns.compileWord("component1");
+    }
+
+    @Benchmark
+    public boolean findFirstLine() {
+        return Patterns.find(found, body);
+    }
+
+    @Benchmark
+    public boolean findMissing() {
+        return Patterns.find(notFound, body);
+    }
+
+    @Benchmark
+    public boolean findMissingByString() {
+        return Patterns.find("component1", body);
+    }
+}
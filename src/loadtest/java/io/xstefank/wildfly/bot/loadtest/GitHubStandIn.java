@@ -0,0 +1,195 @@
+package io.xstefank.wildfly.bot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.xstefank.wildfly.bot.util.DeliveryRecorder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in of the GitHub REST API serving the responses recorded by {@link DeliveryRecorder}.
+ * Every response is delayed by the configured latency. Requests are matched by their method, path
+ * and query first and by their method and path otherwise, the last recorded response wins. Installation
+ * tokens and GraphQL mutations are answered without a recording, other unknown requests with 404.
+ * <p>
+ * The time every response was sent is kept for the pull request number and the commit SHAs in the path
+ * of the request, so the requests can be attributed to the replayed deliveries.
+ */
+public class GitHubStandIn implements AutoCloseable {
+
+    private static final String GITHUB_API = "https://api.github.com";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern PULL_REQUEST = Pattern.compile("/(?:pulls|issues)/(\\d+)");
+    private static final Pattern SHA = Pattern.compile("\\b[0-9a-f]{40}\\b");
+    private static final Pattern ACCESS_TOKENS = Pattern.compile("/app/installations/\\d+/access_tokens");
+
+    private record Response(int status, String link, String body) {
+    }
+
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Long>> requestTimes = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong lastRequest = new AtomicLong();
+    private final Duration latency;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private GitHubStandIn(Path recording, int port, Duration latency) throws IOException {
+        this.latency = latency;
+        Path recorded = recording.resolve(DeliveryRecorder.RESPONSES);
+        if (Files.exists(recorded)) {
+            try (BufferedReader reader = Files.newBufferedReader(recorded)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JsonNode node = OBJECT_MAPPER.readTree(line);
+                    String method = node.get("method").textValue();
+                    String path = node.get("path").textValue();
+                    Response response = new Response(node.get("status").intValue(),
+                            node.path("link").textValue(), node.path("body").textValue());
+                    responses.put(method + " " + path, response);
+                    int query = path.indexOf('?');
+                    if (query >= 0) {
+                        responses.put(method + " " + path.substring(0, query), response);
+                    }
+                }
+            }
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static GitHubStandIn start(Path recording, int port, Duration latency) throws IOException {
+        GitHubStandIn standIn = new GitHubStandIn(recording, port, latency);
+        standIn.server.start();
+        return standIn;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int recordedResponses() {
+        return responses.size();
+    }
+
+    /**
+     * Forgets the requests received so far, e.g. the requests of the startup of the bot.
+     */
+    public void reset() {
+        requests.set(0);
+        requestTimes.clear();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} of the last response
+     */
+    public long lastRequest() {
+        return lastRequest.get();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} of the responses for the pull request number or commit SHA
+     */
+    public List<Long> requestTimes(String key) {
+        Queue<Long> times = requestTimes.get(key);
+        return times == null ? List.of() : List.copyOf(times);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            String path = exchange.getRequestURI().getRawPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+
+            Response response = response(exchange.getRequestMethod(), path, query);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().add("X-RateLimit-Limit", "5000");
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", "5000");
+            exchange.getResponseHeaders().add("X-RateLimit-Reset",
+                    String.valueOf(Instant.now().plus(Duration.ofHours(1)).getEpochSecond()));
+            if (response.link() != null) {
+                exchange.getResponseHeaders().add("Link", response.link().replace(GITHUB_API, baseUrl()));
+            }
+            byte[] body = response.body() == null
+                    ? new byte[0]
+                    : response.body().replace(GITHUB_API, baseUrl()).getBytes(StandardCharsets.UTF_8);
+            if (body.length == 0) {
+                exchange.sendResponseHeaders(response.status(), -1);
+            } else {
+                exchange.sendResponseHeaders(response.status(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            attribute(path);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Response response(String method, String path, String query) {
+        Response response = query == null ? null : responses.get(method + " " + path + "?" + query);
+        if (response == null) {
+            response = responses.get(method + " " + path);
+        }
+        if (response != null) {
+            return response;
+        }
+        if (ACCESS_TOKENS.matcher(path).matches()) {
+            return new Response(201, null, "{\"token\":\"stand-in\",\"expires_at\":\""
+                    + Instant.now().plus(Duration.ofHours(1)) + "\"}");
+        }
+        if (path.endsWith("/graphql")) {
+            return new Response(200, null, "{\"data\":{}}");
+        }
+        return new Response(404, null, "{\"message\":\"Not Found\"}");
+    }
+
+    private void attribute(String path) {
+        long now = System.nanoTime();
+        requests.incrementAndGet();
+        lastRequest.accumulateAndGet(now, Math::max);
+        Matcher pullRequest = PULL_REQUEST.matcher(path);
+        if (pullRequest.find()) {
+            requestTimes.computeIfAbsent("pr:" + pullRequest.group(1), k -> new ConcurrentLinkedQueue<>()).add(now);
+        }
+        Matcher sha = SHA.matcher(path);
+        while (sha.find()) {
+            requestTimes.computeIfAbsent("sha:" + sha.group(), k -> new ConcurrentLinkedQueue<>()).add(now);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
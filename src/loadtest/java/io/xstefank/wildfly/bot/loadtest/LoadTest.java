@@ -0,0 +1,161 @@
+package io.xstefank.wildfly.bot.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a recording of webhook deliveries against the running bot, with the GitHub API served by
+ * the {@link GitHubStandIn}, and reports the throughput, the end-to-end latency and the GitHub requests
+ * per event. The end-to-end latency of a delivery lasts until the last GitHub response for its pull request
+ * or head commit, sent before the next delivery of the same pull request, or until the delivery was
+ * acknowledged if the bot sent no such request.
+ * <p>
+ * Options, all of them optional except {@code --recording}:
+ * <ul>
+ * <li>{@code --recording} directory recorded with {@code wildfly-bot.record-directory}</li>
+ * <li>{@code --app} URL of the webhook endpoint of the bot, {@code http://localhost:8080} by default</li>
+ * <li>{@code --port} port of the GitHub stand-in, {@code 8089} by default</li>
+ * <li>{@code --latency} latency of the GitHub stand-in in milliseconds, {@code 0} by default</li>
+ * <li>{@code --rate} deliveries sent per second, {@code 10} by default</li>
+ * <li>{@code --events} number of deliveries sent, the recording is replayed repeatedly, all of them by default</li>
+ * <li>{@code --secret} webhook secret of the bot</li>
+ * <li>{@code --quiet} seconds without GitHub requests after which the bot is considered done, {@code 5} by default,
+ * it has to be longer than {@code wildfly-bot.pull-request-debounce}</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        if (!options.containsKey("recording")) {
+            System.err.println("Usage: LoadTest --recording <directory> [--app <url>] [--port <port>] [--latency <ms>]"
+                    + " [--rate <events/s>] [--events <count>] [--secret <secret>] [--quiet <s>]");
+            System.exit(1);
+        }
+
+        Path recording = Path.of(options.get("recording"));
+        URI app = URI.create(options.getOrDefault("app", "http://localhost:8080"));
+        List<WebhookReplayer.Delivery> deliveries = WebhookReplayer.load(recording);
+        if (deliveries.isEmpty()) {
+            System.err.println("No deliveries recorded in " + recording);
+            System.exit(1);
+        }
+        int events = Integer.parseInt(options.getOrDefault("events", String.valueOf(deliveries.size())));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        Duration quiet = Duration.ofSeconds(Long.parseLong(options.getOrDefault("quiet", "5")));
+
+        try (GitHubStandIn standIn = GitHubStandIn.start(recording,
+                Integer.parseInt(options.getOrDefault("port", "8089")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("latency", "0"))))) {
+            System.out.printf("GitHub stand-in with %d recorded responses is running at %s%n",
+                    standIn.recordedResponses(), standIn.baseUrl());
+            System.out.printf("Start the bot with -Dquarkus.github-app.instance-endpoint=%s, waiting for %s%n",
+                    standIn.baseUrl(), app);
+            awaitReady(app);
+            awaitQuiet(standIn, quiet);
+            standIn.reset();
+
+            List<WebhookReplayer.Sent> sent = new WebhookReplayer(app, options.get("secret"))
+                    .replay(deliveries, events, rate);
+            awaitQuiet(standIn, quiet);
+            report(sent, standIn);
+        }
+    }
+
+    private static void awaitReady(URI app) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(app.resolve("/q/health/ready")).build();
+        while (true) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // the bot is not started yet
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+    }
+
+    /**
+     * Waits until the bot sends no request to GitHub for the given time.
+     */
+    private static void awaitQuiet(GitHubStandIn standIn, Duration quiet) throws InterruptedException {
+        while (standIn.lastRequest() != 0 && System.nanoTime() - standIn.lastRequest() < quiet.toNanos()) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private static void report(List<WebhookReplayer.Sent> sent, GitHubStandIn standIn) {
+        long[] latencies = new long[sent.size()];
+        long end = 0;
+        int failed = 0;
+        for (int i = 0; i < sent.size(); i++) {
+            WebhookReplayer.Sent delivery = sent.get(i);
+            if (delivery.status() >= 400) {
+                failed++;
+            }
+            long until = nextOfPullRequest(sent, i);
+            long completed = delivery.acknowledgedAt();
+            for (String key : List.of("pr:" + delivery.delivery().pullRequest(), "sha:" + delivery.delivery().headSha())) {
+                for (long time : standIn.requestTimes(key)) {
+                    if (time >= delivery.sentAt() && time < until) {
+                        completed = Math.max(completed, time);
+                    }
+                }
+            }
+            latencies[i] = completed - delivery.sentAt();
+            end = Math.max(end, completed);
+        }
+        Arrays.sort(latencies);
+
+        double seconds = (end - sent.get(0).sentAt()) / 1e9;
+        System.out.printf("Events:              %d (%d rejected)%n", sent.size(), failed);
+        System.out.printf("Throughput:          %.1f events/s%n", sent.size() / seconds);
+        System.out.printf("Latency p50:         %d ms%n", TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 50)));
+        System.out.printf("Latency p99:         %d ms%n", TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 99)));
+        System.out.printf("GitHub requests:     %d (%.1f per event)%n", standIn.requests(),
+                (double) standIn.requests() / sent.size());
+    }
+
+    /**
+     * @return when the next delivery of the same pull request was sent, or {@link Long#MAX_VALUE}
+     */
+    private static long nextOfPullRequest(List<WebhookReplayer.Sent> sent, int index) {
+        int pullRequest = sent.get(index).delivery().pullRequest();
+        for (int i = index + 1; i < sent.size(); i++) {
+            if (sent.get(i).delivery().pullRequest() == pullRequest) {
+                return sent.get(i).sentAt();
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Nearest-rank percentile of the sorted values.
+     */
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].startsWith("--")) {
+                options.put(args[i].substring(2), args[i + 1]);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,147 @@
+package io.xstefank.wildfly.bot.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the startup time and the memory of the bot packaged as a JVM application and as a native
+ * executable. Every run starts the bot against the {@link GitHubStandIn}, so the startup validation
+ * of the installed repositories is included without sending requests to GitHub, and measures the time
+ * until the bot reports readiness and its resident set size (RSS) once it is ready. The RSS is read from
+ * {@code /proc}, so the benchmark runs on Linux only. The bot reads its credentials from {@code .env}
+ * or the environment as usual.
+ * <p>
+ * Options, all of them optional:
+ * <ul>
+ * <li>{@code --jvm} the JVM application, {@code target/quarkus-app/quarkus-run.jar} by default</li>
+ * <li>{@code --native} the native executable, the {@code *-runner} file in {@code target} by default</li>
+ * <li>{@code --recording} recording served by the GitHub stand-in, see {@link LoadTest}</li>
+ * <li>{@code --runs} number of runs of every mode, {@code 5} by default</li>
+ * <li>{@code --port} HTTP port of the bot, {@code 8081} by default</li>
+ * </ul>
+ */
+public class StartupBenchmark {
+
+    private static final int STAND_IN_PORT = 8089;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private record Run(long startupMillis, long rssKilobytes) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].startsWith("--")) {
+                options.put(args[i].substring(2), args[i + 1]);
+            }
+        }
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "8081"));
+        Path recording = Path.of(options.getOrDefault("recording", "target/recording"));
+
+        try (GitHubStandIn standIn = GitHubStandIn.start(recording, STAND_IN_PORT, Duration.ZERO)) {
+            List<String> properties = List.of("-Dquarkus.http.port=" + port,
+                    "-Dquarkus.github-app.instance-endpoint=" + standIn.baseUrl());
+
+            Path jar = Path.of(options.getOrDefault("jvm", "target/quarkus-app/quarkus-run.jar"));
+            if (Files.exists(jar)) {
+                List<String> command = new ArrayList<>(List.of("java"));
+                command.addAll(properties);
+                command.addAll(List.of("-jar", jar.toString()));
+                report("JVM", measure(command, port, runs));
+            } else {
+                System.out.printf("%s not found, build it with ./mvnw package%n", jar);
+            }
+
+            Optional<Path> executable = options.containsKey("native")
+                    ? Optional.of(Path.of(options.get("native")))
+                    : findRunner();
+            if (executable.isPresent() && Files.exists(executable.get())) {
+                List<String> command = new ArrayList<>(List.of(executable.get().toString()));
+                command.addAll(properties);
+                report("Native", measure(command, port, runs));
+            } else {
+                System.out.println("Native executable not found, build it with ./mvnw package -Dnative");
+            }
+        }
+    }
+
+    private static List<Run> measure(List<String> command, int port, int runs) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest ready = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/q/health/ready")).build();
+        List<Run> results = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                while (!isReady(client, ready)) {
+                    if (!process.isAlive() || System.nanoTime() - start > TIMEOUT.toNanos()) {
+                        throw new IllegalStateException("The bot did not start: " + String.join(" ", command));
+                    }
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+                long startup = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                results.add(new Run(startup, rss(process.pid())));
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+        return results;
+    }
+
+    private static boolean isReady(HttpClient client, HttpRequest ready) throws InterruptedException {
+        try {
+            return client.send(ready, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // the HTTP server is not started yet
+            return false;
+        }
+    }
+
+    /**
+     * @return resident set size of the process in kilobytes
+     */
+    private static long rss(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+            }
+        }
+        throw new IllegalStateException("No RSS reported for the process " + pid);
+    }
+
+    private static Optional<Path> findRunner() throws IOException {
+        if (!Files.isDirectory(Path.of("target"))) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-runner")).findFirst();
+        }
+    }
+
+    private static void report(String mode, List<Run> runs) {
+        System.out.printf("%-6s startup to ready: mean %d ms, min %d ms; RSS when ready: mean %d MiB, max %d MiB%n",
+                mode,
+                (long) runs.stream().mapToLong(Run::startupMillis).average().orElse(0),
+                runs.stream().mapToLong(Run::startupMillis).min().orElse(0),
+                (long) runs.stream().mapToLong(Run::rssKilobytes).average().orElse(0) / 1024,
+                runs.stream().mapToLong(Run::rssKilobytes).max().orElse(0) / 1024);
+    }
+}
@@ -0,0 +1,113 @@
+package io.xstefank.wildfly.bot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.xstefank.wildfly.bot.util.DeliveryRecorder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Sends the webhook deliveries recorded by {@link DeliveryRecorder} to the running bot at a fixed rate.
+ * Every delivery is sent with a new delivery GUID and signed with the webhook secret, if it is set.
+ */
+public class WebhookReplayer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Recorded webhook delivery.
+     */
+    public record Delivery(String event, String payload, int pullRequest, String headSha) {
+    }
+
+    /**
+     * Delivery sent to the bot.
+     *
+     * @param sentAt {@link System#nanoTime()} the delivery was sent
+     * @param acknowledgedAt {@link System#nanoTime()} the bot acknowledged the delivery
+     */
+    public record Sent(Delivery delivery, long sentAt, long acknowledgedAt, int status) {
+    }
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI webhookUri;
+    private final String secret;
+
+    public WebhookReplayer(URI webhookUri, String secret) {
+        this.webhookUri = webhookUri;
+        this.secret = secret;
+    }
+
+    public static List<Delivery> load(Path recording) throws IOException {
+        List<Delivery> deliveries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(recording.resolve(DeliveryRecorder.DELIVERIES))) {
+            for (Path file : files.sorted().toList()) {
+                JsonNode node = OBJECT_MAPPER.readTree(file.toFile());
+                JsonNode payload = node.get("payload");
+                JsonNode pullRequest = payload.path("pull_request");
+                deliveries.add(new Delivery(node.get("event").textValue(), OBJECT_MAPPER.writeValueAsString(payload),
+                        pullRequest.path("number").intValue(), pullRequest.path("head").path("sha").textValue()));
+            }
+        }
+        return deliveries;
+    }
+
+    /**
+     * Sends the given number of deliveries, cycling through the recorded ones, at the given rate
+     * and waits until all of them are acknowledged.
+     */
+    public List<Sent> replay(List<Delivery> deliveries, int events, double eventsPerSecond) throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / eventsPerSecond);
+        long start = System.nanoTime();
+        List<CompletableFuture<Sent>> sent = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            long wait = start + i * interval - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            sent.add(send(deliveries.get(i % deliveries.size())));
+        }
+        return sent.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<Sent> send(Delivery delivery) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(webhookUri)
+                .header("Content-Type", "application/json")
+                .header("X-GitHub-Event", delivery.event())
+                .header("X-GitHub-Delivery", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(delivery.payload()));
+        if (secret != null) {
+            request.header("X-Hub-Signature-256", "sha256=" + sign(delivery.payload()));
+        }
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> new Sent(delivery, sentAt, System.nanoTime(), response.statusCode()));
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign the payload", e);
+        }
+    }
+}
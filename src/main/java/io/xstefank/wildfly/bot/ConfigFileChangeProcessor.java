@@ -1,14 +1,17 @@
 package io.xstefank.wildfly.bot;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.quarkiverse.githubapp.event.PullRequest;
-import io.quarkiverse.githubapp.runtime.UtilsProducer;
 import io.quarkiverse.githubapp.runtime.github.GitHubConfigFileProviderImpl;
 import io.xstefank.wildfly.bot.model.RuntimeConstants;
 import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.CachingConfigFileProvider;
 import io.xstefank.wildfly.bot.util.GithubProcessor;
+import io.xstefank.wildfly.bot.util.LabelCache;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
 import io.xstefank.wildfly.bot.util.PullRequestLogger;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshotProvider;
+import io.xstefank.wildfly.bot.util.RateLimitTracker;
+import io.xstefank.wildfly.bot.util.RepositoryTreeCache;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -40,28 +43,48 @@ public class ConfigFileChangeProcessor {
     GitHubConfigFileProviderImpl fileProvider;
 
     @Inject
-    @UtilsProducer.Yaml
-    ObjectMapper yamlObjectMapper;
+    CachingConfigFileProvider configFileProvider;
 
     @Inject
     GithubProcessor githubProcessor;
 
-    void onFileChanged(
-            @PullRequest.Opened @PullRequest.Edited @PullRequest.Synchronize @PullRequest.Reopened @PullRequest.ReadyForReview GHEventPayload.PullRequest pullRequestPayload,
-            GitHub gitHub) throws IOException {
+    @Inject
+    PullRequestSnapshotProvider snapshotProvider;
+
+    @Inject
+    LabelCache labelCache;
+
+    @Inject
+    ProcessorMetrics processorMetrics;
+
+    @Inject
+    RateLimitTracker rateLimitTracker;
+
+    @Inject
+    RepositoryTreeCache repositoryTreeCache;
+
+    /**
+     * Invoked by {@link PullRequestEventDispatcher} once the event is not superseded by a newer event.
+     */
+    void onFileChanged(GHEventPayload.PullRequest pullRequestPayload, GitHub gitHub) throws IOException {
+        processorMetrics.process("config-file", pullRequestPayload,
+                () -> validateChangedFile(pullRequestPayload, gitHub));
+    }
+
+    private boolean validateChangedFile(GHEventPayload.PullRequest pullRequestPayload, GitHub gitHub) throws IOException {
         GHPullRequest pullRequest = pullRequestPayload.getPullRequest();
+        rateLimitTracker.track(pullRequestPayload, gitHub);
         LOG.setPullRequest(pullRequest);
 
         GHRepository repository = pullRequest.getRepository();
-        for (GHPullRequestFileDetail changedFile : pullRequest.listFiles()) {
+        for (GHPullRequestFileDetail changedFile : snapshotProvider.get(pullRequest).files()) {
             if (changedFile.getFilename().equals(fileProvider.getFilePath(RuntimeConstants.CONFIG_FILE_NAME))) {
                 try {
                     GHContent updatedFile = gitHub.getRepository(pullRequest.getHead().getRepository().getFullName())
                             .getFileContent(".github/"
                                     + RuntimeConstants.CONFIG_FILE_NAME, pullRequest.getHead().getSha());
                     String updatedFileContent = new String(updatedFile.read().readAllBytes());
-                    Optional<WildFlyConfigFile> file = Optional
-                            .ofNullable(yamlObjectMapper.readValue(updatedFileContent, WildFlyConfigFile.class));
+                    Optional<WildFlyConfigFile> file = Optional.ofNullable(configFileProvider.parse(updatedFileContent));
 
                     if (file.isPresent()) {
                         List<String> problems = validateFile(file.get(), repository);
@@ -70,7 +93,8 @@ public class ConfigFileChangeProcessor {
                             LOG.debug("Configuration File check successful");
                         } else {
                             githubProcessor.commitStatusError(pullRequest, CHECK_NAME,
-                                    "Rule is missing an id or multiple rules have the same id.");
+                                    "Rule is missing an id or multiple rules have the same id.",
+                                    problems.stream().map("- %s"::formatted).collect(Collectors.joining("\n")));
                             LOG.warnf("Configuration File check unsuccessful. %s", String.join(",", problems));
                         }
                     } else {
@@ -88,16 +112,14 @@ public class ConfigFileChangeProcessor {
                 }
             }
         }
+        return true;
     }
 
     List<String> validateFile(WildFlyConfigFile file, GHRepository repository) throws IOException {
         List<String> problems = new ArrayList<>();
         Set<WildFlyConfigFile.WildFlyRule> rules = new HashSet<>();
-        Set<String> repoLabels = repository.listLabels()
-                .toList()
-                .stream()
-                .map(ghLabel -> ghLabel.getName())
-                .collect(Collectors.toSet());
+        Set<String> repoLabels = labelCache.getLabels(repository);
+        Optional<Set<String>> repositoryPaths = getRepositoryPaths(file, repository);
 
         if (file.wildfly.rules != null) {
             for (WildFlyConfigFile.WildFlyRule rule : file.wildfly.rules) {
@@ -118,17 +140,9 @@ public class ConfigFileChangeProcessor {
                 }
 
                 for (String directory : rule.directories) {
-                    try {
-                        repository.getDirectoryContent(directory);
-                    } catch (IOException e) {
-                        // non-existing directory or it is not a file
-                        if (e instanceof GHFileNotFoundException ||
-                                (e instanceof HttpException && !e.getMessage().startsWith(
-                                        "Server returned HTTP response code: 200, message: 'null' for URL: https://api.github.com/repos/"))) {
-                            problems.add("Rule [" + rule.toPrettyString()
-                                    + "] has the following non-existing directory specified: " + directory);
-                            LOG.debugf(e, "Exception on directories check caught");
-                        }
+                    if (!directoryExists(repository, repositoryPaths, directory)) {
+                        problems.add("Rule [" + rule.toPrettyString()
+                                + "] has the following non-existing directory specified: " + directory);
                     }
                 }
             }
@@ -136,4 +150,42 @@ public class ConfigFileChangeProcessor {
 
         return problems;
     }
+
+    private Optional<Set<String>> getRepositoryPaths(WildFlyConfigFile file, GHRepository repository) {
+        if (file.wildfly.rules == null || file.wildfly.rules.stream().allMatch(rule -> rule.directories.isEmpty())) {
+            return Optional.empty();
+        }
+
+        try {
+            return repositoryTreeCache.getPaths(repository);
+        } catch (IOException e) {
+            LOG.debugf(e, "Unable to list the tree of the repository, directories are checked one by one");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks the directory against the paths of the repository if they are known, otherwise
+     * the directory is requested from GitHub.
+     */
+    private boolean directoryExists(GHRepository repository, Optional<Set<String>> repositoryPaths, String directory) {
+        if (repositoryPaths.isPresent()) {
+            return repositoryPaths.get().contains(directory.endsWith("/")
+                    ? directory.substring(0, directory.length() - 1)
+                    : directory);
+        }
+
+        try {
+            repository.getDirectoryContent(directory);
+        } catch (IOException e) {
+            // non-existing directory or it is not a file
+            if (e instanceof GHFileNotFoundException ||
+                    (e instanceof HttpException && !e.getMessage().startsWith(
+                            "Server returned HTTP response code: 200, message: 'null' for URL: https://api.github.com/repos/"))) {
+                LOG.debugf(e, "Exception on directories check caught");
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,18 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.event.Label;
+import io.xstefank.wildfly.bot.util.LabelCache;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+
+@RequestScoped
+public class LabelChangeProcessor {
+
+    @Inject
+    LabelCache labelCache;
+
+    void onLabelChanged(@Label.Created @Label.Edited @Label.Deleted GHEventPayload.Label labelPayload) {
+        labelCache.invalidate(labelPayload.getRepository().getFullName());
+    }
+}
@@ -4,16 +4,22 @@ import io.quarkiverse.githubapp.ConfigFile;
 import io.quarkiverse.githubapp.GitHubClientProvider;
 import io.quarkiverse.githubapp.GitHubConfigFileProvider;
 import io.quarkiverse.githubapp.event.Installation;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.logging.Log;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
 import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.health.StartupScanReadinessCheck;
 import io.xstefank.wildfly.bot.model.RuntimeConstants;
 import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.GitHubRateLimiter;
 import io.xstefank.wildfly.bot.util.GithubProcessor;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Any;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.Readiness;
 import org.jboss.logging.Logger;
 import org.kohsuke.github.GHAppInstallation;
 import org.kohsuke.github.GHEventPayload;
@@ -22,8 +28,18 @@ import org.kohsuke.github.GitHub;
 import org.kohsuke.github.HttpException;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
@@ -58,43 +74,46 @@ public class LifecycleProcessor {
     @Inject
     GithubProcessor githubProcessor;
 
+    @Inject
+    @Readiness
+    StartupScanReadinessCheck startupScanReadinessCheck;
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    // the reset of the rate limit of each installation whose validation is postponed
+    private final Map<Long, Long> postponedScans = new ConcurrentHashMap<>();
+
     void onStart(@Observes StartupEvent event) {
         if (wildFlyBotConfig.isDryRun()) {
             Log.info("Dry Run enabled. GitHub requests will only log statements and not send actual requests to GitHub.");
         }
 
+        startupScanReadinessCheck.scanStarted();
+        if (wildFlyBotConfig.startupScanMode() == WildFlyBotConfig.StartupScanMode.STARTUP) {
+            scanInstallations();
+        } else {
+            Thread scan = new Thread(this::scanInstallations, "startup-scan");
+            scan.setDaemon(true);
+            scan.start();
+        }
+    }
+
+    /**
+     * Validates the repositories of all installations. At most {@link WildFlyBotConfig#startupScanConcurrency()}
+     * validations are submitted at once and every GitHub request of the scan waits for the rate limit budget
+     * of its installation, see {@link GitHubRateLimiter#background(long, GitHubRateLimiter.BackgroundWork)}.
+     * The validation of an installation whose budget is exhausted is postponed, see
+     * {@link #scanPostponedInstallations()}.
+     */
+    private void scanInstallations() {
         long installationId = 0L;
+        ExecutorService executor = Executors.newFixedThreadPool(wildFlyBotConfig.startupScanConcurrency());
+        Semaphore slots = new Semaphore(wildFlyBotConfig.startupScanConcurrency());
         try {
             for (GHAppInstallation installation : clientProvider.getApplicationClient().getApp().listInstallations()) {
                 installationId = installation.getId();
-                GitHub app = clientProvider.getInstallationClient(installation.getId());
-                for (GHRepository repository : app.getInstallation().listRepositories()) {
-                    try {
-                        WildFlyConfigFile wildflyBotConfigFile = fileProvider.fetchConfigFile(repository,
-                                RuntimeConstants.CONFIG_FILE_NAME, ConfigFile.Source.DEFAULT, WildFlyConfigFile.class).get();
-                        List<String> emailAddresses = wildflyBotConfigFile.wildfly.emails;
-                        List<String> problems = configFileChangeProcessor.validateFile(wildflyBotConfigFile, repository);
-
-                        githubProcessor.createLabelsIfMissing(repository, Set.of(RuntimeConstants.LABEL_NEEDS_REBASE));
-
-                        if (problems.isEmpty()) {
-                            LOG.infof("The configuration file from the repository %s was parsed successfully.",
-                                    repository.getFullName());
-                        } else {
-                            LOG.errorf(
-                                    "The configuration file from the repository %s was not parsed successfully due to following problems: %s",
-                                    repository.getFullName(), problems);
-                            githubProcessor.sendEmail(
-                                    EMAIL_SUBJECT,
-                                    EMAIL_TEXT.formatted(RuntimeConstants.CONFIG_FILE_NAME, repository.getHttpTransportUrl(),
-                                            prettyString(problems)),
-                                    emailAddresses);
-                        }
-                    } catch (IllegalStateException e) {
-                        LOG.errorf(e, "Unable to retrieve or parse the configuration file from the repository %s",
-                                repository.getFullName());
-                    }
-                }
+                scanInstallation(installationId, executor, slots);
             }
         } catch (IOException | IllegalStateException e) {
             if (e instanceof IOException) {
@@ -110,6 +129,132 @@ public class LifecycleProcessor {
             }
             LOG.errorf(e, "Unable to correctly start %s for following installation id [%d]", wildFlyBotConfig.githubName(),
                     installationId);
+        } finally {
+            executor.shutdownNow();
+            startupScanReadinessCheck.scanCompleted();
+        }
+    }
+
+    /**
+     * Validates the repositories of the installations postponed by an exhausted rate limit budget, once
+     * the rate limit of the installation is reset.
+     */
+    @Scheduled(every = "1m", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scanPostponedInstallations() {
+        if (postponedScans.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(wildFlyBotConfig.startupScanConcurrency());
+        Semaphore slots = new Semaphore(wildFlyBotConfig.startupScanConcurrency());
+        try {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<Long, Long> postponedScan : postponedScans.entrySet()) {
+                long id = postponedScan.getKey();
+                if (postponedScan.getValue() > now || !postponedScans.remove(id, postponedScan.getValue())) {
+                    continue;
+                }
+                try {
+                    scanInstallation(id, executor, slots);
+                } catch (IOException | RuntimeException e) {
+                    LOG.errorf(e, "Unable to validate the repositories of the installation %d", id);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void scanInstallation(long id, ExecutorService executor, Semaphore slots) throws IOException {
+        GitHub app = clientProvider.getInstallationClient(id);
+        List<Future<?>> validations = new ArrayList<>();
+        try {
+            rateLimiter.background(id, () -> {
+                for (GHRepository repository : app.getInstallation().listRepositories()) {
+                    acquire(slots);
+                    validations.add(executor.submit(() -> {
+                        try {
+                            rateLimiter.background(id, () -> validateRepository(repository));
+                        } finally {
+                            slots.release();
+                        }
+                        return null;
+                    }));
+                }
+            });
+            awaitValidations(validations);
+        } catch (IOException | RuntimeException e) {
+            GitHubRateLimiter.BudgetExhaustedException budgetExhausted = GitHubRateLimiter.budgetExhausted(e);
+            if (budgetExhausted == null) {
+                throw e;
+            }
+            validations.forEach(validation -> validation.cancel(false));
+            LOG.warnf("The GitHub rate limit of the installation %d is exhausted, the validation of its repositories "
+                    + "is postponed until %s", id, new Date(budgetExhausted.getResetMillis()));
+            postponedScans.put(id, budgetExhausted.getResetMillis());
+        }
+    }
+
+    private void validateRepository(GHRepository repository) throws IOException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            WildFlyConfigFile wildflyBotConfigFile = fileProvider.fetchConfigFile(repository,
+                    RuntimeConstants.CONFIG_FILE_NAME, ConfigFile.Source.DEFAULT, WildFlyConfigFile.class).get();
+            List<String> emailAddresses = wildflyBotConfigFile.wildfly.emails;
+            List<String> problems = configFileChangeProcessor.validateFile(wildflyBotConfigFile, repository);
+
+            githubProcessor.createLabelsIfMissing(repository, Set.of(RuntimeConstants.LABEL_NEEDS_REBASE));
+
+            if (problems.isEmpty()) {
+                LOG.infof("The configuration file from the repository %s was parsed successfully.",
+                        repository.getFullName());
+            } else {
+                LOG.errorf(
+                        "The configuration file from the repository %s was not parsed successfully due to following problems: %s",
+                        repository.getFullName(), problems);
+                githubProcessor.sendEmail(
+                        EMAIL_SUBJECT,
+                        EMAIL_TEXT.formatted(RuntimeConstants.CONFIG_FILE_NAME, repository.getHttpTransportUrl(),
+                                prettyString(problems)),
+                        emailAddresses);
+            }
+        } catch (IllegalStateException e) {
+            LOG.errorf(e, "Unable to retrieve or parse the configuration file from the repository %s",
+                    repository.getFullName());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private static void acquire(Semaphore slots) throws InterruptedIOException {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating the repositories");
+        }
+    }
+
+    /**
+     * Waits for all the validations of the repositories of an installation. The failure of any of them
+     * is rethrown the same way as if the repositories were validated one by one.
+     */
+    private void awaitValidations(List<Future<?>> validations) throws IOException {
+        try {
+            for (Future<?> validation : validations) {
+                validation.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while validating the repositories");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -0,0 +1,157 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.ConfigFile;
+import io.quarkiverse.githubapp.GitHubConfigFileProvider;
+import io.quarkiverse.githubapp.event.PullRequest;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.xstefank.wildfly.bot.model.RuntimeConstants;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.DeliveryHistory;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics.Processing;
+import io.xstefank.wildfly.bot.util.PullRequestDeduplicator;
+import io.xstefank.wildfly.bot.util.PullRequestEventCoalescer;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Receives the pull request events processed by {@link PullRequestFormatProcessor}, {@link PullRequestRuleProcessor}
+ * and {@link ConfigFileChangeProcessor}. Duplicate deliveries are skipped right away, the other events are queued
+ * by {@link PullRequestEventCoalescer}, so only the latest event of a pull request is processed. The configuration
+ * file is fetched once the event is processed, so superseded events do not send any request to GitHub.
+ * If the processing fails, the delivery is released, so it is processed again when it is redelivered.
+ */
+@ApplicationScoped
+public class PullRequestEventDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(PullRequestEventDispatcher.class);
+    private static final String DISPATCHER = "dispatcher";
+
+    @Inject
+    GitHubConfigFileProvider fileProvider;
+
+    @Inject
+    PullRequestDeduplicator deduplicator;
+
+    @Inject
+    DeliveryHistory deliveryHistory;
+
+    @Inject
+    PullRequestEventCoalescer coalescer;
+
+    @Inject
+    ProcessorMetrics processorMetrics;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    @Inject
+    @Any
+    PullRequestFormatProcessor formatProcessor;
+
+    @Inject
+    @Any
+    PullRequestRuleProcessor ruleProcessor;
+
+    @Inject
+    @Any
+    ConfigFileChangeProcessor configFileChangeProcessor;
+
+    void onPullRequest(
+            @PullRequest.Edited @PullRequest.Opened @PullRequest.Synchronize @PullRequest.Reopened @PullRequest.ReadyForReview GHEventPayload.PullRequest pullRequestPayload,
+            GitHub gitHub, DynamicGraphQLClient gitHubGraphQL) throws IOException {
+        GHPullRequest pullRequest = pullRequestPayload.getPullRequest();
+        String key = PullRequestEventCoalescer.key(pullRequest.getRepository().getFullName(), pullRequest.getNumber());
+
+        if (deduplicator.isDuplicate(pullRequestPayload)) {
+            LOG.debugf("Skipping event of %s already processed in a previous delivery", key);
+            processorMetrics.skipped(DISPATCHER, pullRequestPayload, ProcessorMetrics.DUPLICATE);
+            return;
+        }
+
+        // the processing may run in another request, so the claimed keys are captured now
+        List<String> claimedKeys = deduplicator.claimedKeys();
+        coalescer.submit(key, () -> {
+            try {
+                process(pullRequestPayload, gitHub, gitHubGraphQL);
+                stateStore.processed(pullRequest);
+            } catch (IOException | RuntimeException e) {
+                deliveryHistory.release(claimedKeys);
+                throw e;
+            }
+        }, () -> {
+            LOG.debugf("Skipping event of %s superseded by a newer event of the pull request", key);
+            processorMetrics.skipped(DISPATCHER, pullRequestPayload, ProcessorMetrics.SUPERSEDED);
+        });
+    }
+
+    /**
+     * Runs the processors in the request context of the delivery, or in a new one if the event was queued.
+     * A failure of a processor does not prevent the other processors from running.
+     */
+    private void process(GHEventPayload.PullRequest pullRequestPayload, GitHub gitHub, DynamicGraphQLClient gitHubGraphQL)
+            throws IOException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        boolean activated = !requestContext.isActive();
+        if (activated) {
+            requestContext.activate();
+        }
+        try {
+            Optional<WildFlyConfigFile> wildflyConfigFile = fileProvider.fetchConfigFile(pullRequestPayload.getRepository(),
+                    RuntimeConstants.CONFIG_FILE_NAME, ConfigFile.Source.DEFAULT, WildFlyConfigFile.class);
+
+            Exception failure = null;
+            if (wildflyConfigFile.isPresent()) {
+                failure = run(failure, () -> formatProcessor.pullRequestFormatCheck(pullRequestPayload,
+                        wildflyConfigFile.get(), gitHub, gitHubGraphQL));
+                failure = run(failure, () -> ruleProcessor.pullRequestRuleCheck(pullRequestPayload,
+                        wildflyConfigFile.get(), gitHub, gitHubGraphQL));
+            } else {
+                LOG.debugf("No configuration file found in %s, skipping the format and the rule checks",
+                        pullRequestPayload.getRepository().getFullName());
+                processorMetrics.skipped("format", pullRequestPayload, ProcessorMetrics.SKIPPED);
+                processorMetrics.skipped("rule", pullRequestPayload, ProcessorMetrics.SKIPPED);
+            }
+            failure = run(failure, () -> configFileChangeProcessor.onFileChanged(pullRequestPayload, gitHub));
+
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        } finally {
+            if (activated) {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    /**
+     * @return the first failure of the processors run so far
+     */
+    private static Exception run(Exception failure, Processing processor) {
+        try {
+            processor.run();
+            return failure;
+        } catch (IOException | RuntimeException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+}
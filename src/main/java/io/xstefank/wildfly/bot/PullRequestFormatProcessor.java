@@ -2,6 +2,7 @@ package io.xstefank.wildfly.bot;
 
 import io.quarkiverse.githubapp.ConfigFile;
 import io.quarkiverse.githubapp.event.PullRequest;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
 import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
 import io.xstefank.wildfly.bot.format.Check;
 import io.xstefank.wildfly.bot.format.CommitMessagesCheck;
@@ -10,21 +11,38 @@ import io.xstefank.wildfly.bot.format.TitleCheck;
 import io.xstefank.wildfly.bot.model.RegexDefinition;
 import io.xstefank.wildfly.bot.model.RuntimeConstants;
 import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.BotCommentIndex;
+import io.xstefank.wildfly.bot.util.BotCommentIndex.BotComment;
+import io.xstefank.wildfly.bot.util.CommitMessageCache;
 import io.xstefank.wildfly.bot.util.GithubProcessor;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
+import io.xstefank.wildfly.bot.util.PullRequestDeduplicator;
 import io.xstefank.wildfly.bot.util.PullRequestLogger;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshotProvider;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import io.xstefank.wildfly.bot.util.RateLimitTracker;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.jboss.logging.Logger;
 import org.kohsuke.github.GHEventPayload;
-import org.kohsuke.github.GHIssueComment;
 import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static io.xstefank.wildfly.bot.model.RuntimeConstants.DEPENDABOT;
@@ -49,40 +67,93 @@ public class PullRequestFormatProcessor {
     @Inject
     WildFlyBotConfig wildFlyBotConfig;
 
-    void pullRequestFormatCheck(
-            @PullRequest.Edited @PullRequest.Opened @PullRequest.Synchronize @PullRequest.Reopened @PullRequest.ReadyForReview GHEventPayload.PullRequest pullRequestPayload,
-            @ConfigFile(RuntimeConstants.CONFIG_FILE_NAME) WildFlyConfigFile wildflyConfigFile) throws IOException {
+    @Inject
+    PullRequestSnapshotProvider snapshotProvider;
+
+    @Inject
+    PullRequestDeduplicator deduplicator;
+
+    @Inject
+    ProcessorMetrics processorMetrics;
+
+    @Inject
+    CommitMessageCache commitMessageCache;
+
+    @Inject
+    RateLimitTracker rateLimitTracker;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    @Inject
+    ManagedExecutor executor;
+
+    /**
+     * Invoked by {@link PullRequestEventDispatcher} once the event is not superseded by a newer event.
+     */
+    void pullRequestFormatCheck(GHEventPayload.PullRequest pullRequestPayload, WildFlyConfigFile wildflyConfigFile,
+            GitHub gitHub, DynamicGraphQLClient gitHubGraphQL) throws IOException {
+        processorMetrics.process("format", pullRequestPayload,
+                () -> formatCheck(pullRequestPayload, wildflyConfigFile, gitHub, gitHubGraphQL));
+    }
+
+    private boolean formatCheck(GHEventPayload.PullRequest pullRequestPayload, WildFlyConfigFile wildflyConfigFile,
+            GitHub gitHub, DynamicGraphQLClient gitHubGraphQL) throws IOException {
         GHPullRequest pullRequest = pullRequestPayload.getPullRequest();
+        rateLimitTracker.track(pullRequestPayload, gitHub);
         LOG.setPullRequest(pullRequest);
         githubProcessor.LOG.setPullRequest(pullRequest);
 
         String message = githubProcessor.skipPullRequest(pullRequest, wildflyConfigFile);
         if (message != null) {
             LOG.infof("Skipping format due to %s", message);
-            return;
+            return false;
         }
 
         List<Check> checks = initializeChecks(wildflyConfigFile);
-        Map<String, String> errors = new HashMap<>();
+        // sorted by the check name, so the status and the comment do not depend on the order of the checks
+        Map<String, String> errors = new TreeMap<>();
 
         if (!pullRequest.getMergeable()) {
             pullRequest.addLabels(RuntimeConstants.LABEL_NEEDS_REBASE);
+            stateStore.labelsApplied(pullRequest, List.of(RuntimeConstants.LABEL_NEEDS_REBASE));
         }
 
-        for (Check check : checks) {
-            String result = check.check(pullRequest);
-            if (result != null) {
-                errors.put(check.getName(), result);
+        PullRequestSnapshot snapshot = snapshotProvider.get(pullRequest);
+        if (wildFlyBotConfig.parallelChecks() && checks.size() > 1) {
+            runChecksInParallel(checks, snapshot, errors);
+        } else {
+            for (Check check : checks) {
+                String result = processorMetrics.check(check, snapshot);
+                if (result != null) {
+                    errors.put(check.getName(), result);
+                }
             }
         }
 
+        String details = checkResults(checks, errors);
         if (errors.isEmpty()) {
-            githubProcessor.commitStatusSuccess(pullRequest, CHECK_NAME, "Valid");
-            deleteFormatComment(pullRequest);
+            githubProcessor.commitStatusSuccess(pullRequest, CHECK_NAME, "Valid", details);
+        } else {
+            githubProcessor.commitStatusError(pullRequest, CHECK_NAME, "Failed checks: " + String.join(", ", errors.keySet()),
+                    details);
+        }
+
+        // the output of the check run replaces the comment, a comment posted before the mode was switched is deleted
+        if (errors.isEmpty() || githubProcessor.isCheckRunMode()) {
+            deleteFormatComment(pullRequest, gitHubGraphQL);
         } else {
-            githubProcessor.commitStatusError(pullRequest, CHECK_NAME, "Failed checks: " + String.join(", ", errors.keySet()));
-            formatComment(pullRequest, errors.values());
+            formatComment(pullRequest, gitHubGraphQL, errors.values());
         }
+        return true;
+    }
+
+    private static String checkResults(List<Check> checks, Map<String, String> errors) {
+        return checks.stream()
+                .map(Check::getName)
+                .sorted()
+                .map(name -> "- %s: %s".formatted(name, errors.getOrDefault(name, "passed")))
+                .collect(Collectors.joining("\n"));
     }
 
     void postDependabotInfo(@PullRequest.Opened GHEventPayload.PullRequest pullRequestPayload,
@@ -91,61 +162,118 @@ public class PullRequestFormatProcessor {
         LOG.setPullRequest(pullRequest);
         githubProcessor.LOG.setPullRequest(pullRequest);
 
-        if (pullRequest.getUser().getLogin().equals(DEPENDABOT)) {
-            LOG.infof("Dependabot detected.");
-            String comment = ("WildFly Bot recognized this PR as dependabot dependency update. Please create a %s issue" +
-                    " and add its ID to the title and its link to the description.")
-                    .formatted(wildflyConfigFile.wildfly.projectKey);
-            if (wildFlyBotConfig.isDryRun()) {
-                LOG.infof("Add new comment %s", comment);
-            } else {
-                pullRequest.comment(comment);
-            }
+        if (deduplicator.isDuplicate(pullRequestPayload)) {
+            LOG.debug("Skipping event already processed in a previous delivery");
+            return;
         }
 
+        try {
+            if (pullRequest.getUser().getLogin().equals(DEPENDABOT)) {
+                LOG.infof("Dependabot detected.");
+                String comment = ("WildFly Bot recognized this PR as dependabot dependency update. Please create a %s issue" +
+                        " and add its ID to the title and its link to the description.")
+                        .formatted(wildflyConfigFile.wildfly.projectKey);
+                if (wildFlyBotConfig.isDryRun()) {
+                    LOG.infof("Add new comment %s", comment);
+                } else {
+                    pullRequest.comment(comment);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deduplicator.failed();
+            throw e;
+        }
     }
 
-    private void deleteFormatComment(GHPullRequest pullRequest) throws IOException {
-        formatComment(pullRequest, null);
-    }
+    /**
+     * Runs all the checks concurrently, so the checks listing data of the pull request from GitHub
+     * do not delay the others. Each check gets {@link WildFlyBotConfig#checkTimeout()} to finish.
+     */
+    private void runChecksInParallel(List<Check> checks, PullRequestSnapshot snapshot, Map<String, String> errors)
+            throws IOException {
+        long timeout = wildFlyBotConfig.checkTimeout().toMillis();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (Check check : checks) {
+            results.add(executor.supplyAsync(() -> {
+                try {
+                    return processorMetrics.check(check, snapshot);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).orTimeout(timeout, TimeUnit.MILLISECONDS));
+        }
 
-    private void formatComment(GHPullRequest pullRequest, Collection<String> errors) throws IOException {
-        boolean update = false;
-        for (GHIssueComment comment : pullRequest.listComments()) {
-            if (comment.getUser().getLogin().equals(wildFlyBotConfig.githubName())
-                    && comment.getBody().startsWith("Failed format check")) {
-                if (errors == null) {
-                    if (wildFlyBotConfig.isDryRun()) {
-                        LOG.infof("Delete comment %s", comment);
-                    } else {
-                        comment.delete();
-                    }
-                    update = true;
-                    break;
+        try {
+            for (int i = 0; i < checks.size(); i++) {
+                String result = join(checks.get(i), results.get(i));
+                if (result != null) {
+                    errors.put(checks.get(i).getName(), result);
                 }
+            }
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+    }
 
-                String updatedBody = FAILED_FORMAT_COMMENT.formatted(errors.stream()
-                        .map("- %s"::formatted)
-                        .collect(Collectors.joining("\n\n")));
+    private String join(Check check, CompletableFuture<String> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the format checks");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IOException("Format check %s did not finish in %s".formatted(check.getName(),
+                        wildFlyBotConfig.checkTimeout()), e.getCause());
+            }
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
 
+    private void deleteFormatComment(GHPullRequest pullRequest, DynamicGraphQLClient gitHubGraphQL) throws IOException {
+        formatComment(pullRequest, gitHubGraphQL, null);
+    }
+
+    private void formatComment(GHPullRequest pullRequest, DynamicGraphQLClient gitHubGraphQL, Collection<String> errors)
+            throws IOException {
+        Optional<BotComment> comment = githubProcessor.findBotComment(pullRequest, BotCommentIndex.Kind.FORMAT);
+        if (comment.isPresent()) {
+            if (errors == null) {
                 if (wildFlyBotConfig.isDryRun()) {
-                    LOG.infof("Update comment \"%s\" to \"%s\"", comment.getBody(), updatedBody);
+                    LOG.infof("Delete comment %s", comment.get().body());
                 } else {
-                    comment.update(updatedBody);
+                    githubProcessor.deleteBotComment(pullRequest, gitHubGraphQL, BotCommentIndex.Kind.FORMAT, comment.get());
                 }
-                update = true;
-                break;
+                return;
+            }
+
+            String updatedBody = FAILED_FORMAT_COMMENT.formatted(errors.stream()
+                    .map("- %s"::formatted)
+                    .collect(Collectors.joining("\n\n")));
+
+            if (wildFlyBotConfig.isDryRun()) {
+                LOG.infof("Update comment \"%s\" to \"%s\"", comment.get().body(), updatedBody);
+            } else {
+                githubProcessor.updateBotComment(pullRequest, gitHubGraphQL, BotCommentIndex.Kind.FORMAT, comment.get(),
+                        updatedBody);
             }
+            return;
         }
 
-        if (!update && errors != null) {
+        if (errors != null) {
             String updatedBody = FAILED_FORMAT_COMMENT.formatted(errors.stream()
                     .map("- %s"::formatted)
                     .collect(Collectors.joining("\n\n")));
             if (wildFlyBotConfig.isDryRun()) {
                 LOG.infof("Add new comment %s", updatedBody);
             } else {
-                pullRequest.comment(updatedBody);
+                githubProcessor.createBotComment(pullRequest, BotCommentIndex.Kind.FORMAT, updatedBody);
             }
         }
     }
@@ -164,7 +292,7 @@ public class PullRequestFormatProcessor {
 
         if (wildflyConfigFile.wildfly.format.commit.enabled) {
             checks.add(new CommitMessagesCheck(new RegexDefinition(wildflyConfigFile.wildfly.getProjectPattern(),
-                    wildflyConfigFile.wildfly.format.commit.message)));
+                    wildflyConfigFile.wildfly.format.commit.message), commitMessageCache));
         }
 
         if (wildflyConfigFile.wildfly.format.description != null) {
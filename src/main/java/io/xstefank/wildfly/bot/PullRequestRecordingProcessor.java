@@ -0,0 +1,27 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.GitHubEvent;
+import io.xstefank.wildfly.bot.util.DeliveryRecorder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Records the pull request webhook deliveries for the load test harness, see {@link DeliveryRecorder}.
+ * The deliveries are observed as they are received, before they are dispatched to the processors,
+ * as the delivery itself is not available to the processors.
+ */
+@ApplicationScoped
+public class PullRequestRecordingProcessor {
+
+    private static final String PULL_REQUEST = "pull_request";
+
+    @Inject
+    DeliveryRecorder deliveryRecorder;
+
+    void onDelivery(@Observes GitHubEvent gitHubEvent) {
+        if (PULL_REQUEST.equals(gitHubEvent.getEvent())) {
+            deliveryRecorder.record(gitHubEvent);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package io.xstefank.wildfly.bot;
 
-import io.quarkiverse.githubapp.ConfigFile;
-import io.quarkiverse.githubapp.event.PullRequest;
-import io.xstefank.wildfly.bot.model.RuntimeConstants;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
 import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
 import io.xstefank.wildfly.bot.util.GithubProcessor;
-import io.xstefank.wildfly.bot.util.Matcher;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
 import io.xstefank.wildfly.bot.util.PullRequestLogger;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshotProvider;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import io.xstefank.wildfly.bot.util.RateLimitTracker;
+import io.xstefank.wildfly.bot.util.RulePlanner;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -27,18 +30,38 @@ public class PullRequestRuleProcessor {
     @Inject
     GithubProcessor githubProcessor;
 
-    void pullRequestRuleCheck(
-            @PullRequest.Edited @PullRequest.Opened @PullRequest.Synchronize @PullRequest.Reopened @PullRequest.ReadyForReview GHEventPayload.PullRequest pullRequestPayload,
-            @ConfigFile(RuntimeConstants.CONFIG_FILE_NAME) WildFlyConfigFile wildflyBotConfigFile,
-            GitHub gitHub) throws IOException {
+    @Inject
+    PullRequestSnapshotProvider snapshotProvider;
+
+    @Inject
+    ProcessorMetrics processorMetrics;
+
+    @Inject
+    RateLimitTracker rateLimitTracker;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    /**
+     * Invoked by {@link PullRequestEventDispatcher} once the event is not superseded by a newer event.
+     */
+    void pullRequestRuleCheck(GHEventPayload.PullRequest pullRequestPayload, WildFlyConfigFile wildflyBotConfigFile,
+            GitHub gitHub, DynamicGraphQLClient gitHubGraphQL) throws IOException {
+        processorMetrics.process("rule", pullRequestPayload,
+                () -> ruleCheck(pullRequestPayload, wildflyBotConfigFile, gitHub, gitHubGraphQL));
+    }
+
+    private boolean ruleCheck(GHEventPayload.PullRequest pullRequestPayload, WildFlyConfigFile wildflyBotConfigFile,
+            GitHub gitHub, DynamicGraphQLClient gitHubGraphQL) throws IOException {
         GHPullRequest pullRequest = pullRequestPayload.getPullRequest();
+        rateLimitTracker.track(pullRequestPayload, gitHub);
         LOG.setPullRequest(pullRequest);
         githubProcessor.LOG.setPullRequest(pullRequest);
 
         String message = githubProcessor.skipPullRequest(pullRequest, wildflyBotConfigFile);
         if (message != null) {
             LOG.infof("Skipping format due to %s", message);
-            return;
+            return false;
         }
 
         GHRepository repository = pullRequest.getRepository();
@@ -46,15 +69,20 @@ public class PullRequestRuleProcessor {
         Set<String> reviewers = new HashSet<>();
         Set<String> labels = new HashSet<>();
 
-        for (WildFlyConfigFile.WildFlyRule rule : wildflyBotConfigFile.wildfly.rules) {
-            if (Matcher.notifyRequestReview(pullRequest, rule)) {
+        RulePlanner.Matches matches = RulePlanner.match(snapshotProvider.get(pullRequest), wildflyBotConfigFile.wildfly);
+
+        for (CompiledWildFlyRule compiledRule : wildflyBotConfigFile.wildfly.getCompiledRules()) {
+            WildFlyConfigFile.WildFlyRule rule = compiledRule.rule;
+            if (matches.directories().contains(compiledRule)) {
+                processorMetrics.ruleMatched(pullRequest, rule, "directory");
                 if (!rule.notify.isEmpty()) {
                     LOG.infof("Pull Request \"%s\" was matched with a rule, containing notify, with the id: %s.",
                             pullRequest.getTitle(), rule.id != null ? rule.id : "N/A");
                     reviewers.addAll(rule.notify);
                 }
                 labels.addAll(rule.labels);
-            } else if (Matcher.notifyComment(pullRequest, rule)) {
+            } else if (matches.text().contains(compiledRule)) {
+                processorMetrics.ruleMatched(pullRequest, rule, "title-body");
                 if (!rule.notify.isEmpty()) {
                     LOG.infof("Pull Request \"%s\" was matched with a rule, containing notify, with the id: %s.",
                             pullRequest.getTitle(), rule.id != null ? rule.id : "N/A");
@@ -72,8 +100,11 @@ public class PullRequestRuleProcessor {
         if (!labels.isEmpty()) {
             LOG.debugf("Adding following labels to Pull Request %s: %s.", pullRequest.getTitle(), labels);
             pullRequest.addLabels(labels.toArray(String[]::new));
+            stateStore.labelsApplied(pullRequest, labels);
         }
 
-        githubProcessor.processNotifies(pullRequest, gitHub, ccMentions, reviewers, wildflyBotConfigFile.wildfly.emails);
+        githubProcessor.processNotifies(pullRequest, gitHub, gitHubGraphQL, ccMentions, reviewers,
+                wildflyBotConfigFile.wildfly.emails);
+        return true;
     }
 }
@@ -0,0 +1,26 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.event.PullRequest;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+
+/**
+ * Expires the stored state of closed pull requests and keeps it again once they are reopened,
+ * see {@link PullRequestStateStore}.
+ */
+@ApplicationScoped
+public class PullRequestStateProcessor {
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    void onClosed(@PullRequest.Closed GHEventPayload.PullRequest pullRequestPayload) {
+        stateStore.closed(pullRequestPayload.getPullRequest());
+    }
+
+    void onReopened(@PullRequest.Reopened GHEventPayload.PullRequest pullRequestPayload) {
+        stateStore.reopened(pullRequestPayload.getPullRequest());
+    }
+}
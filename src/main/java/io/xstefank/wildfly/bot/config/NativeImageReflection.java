@@ -0,0 +1,52 @@
+package io.xstefank.wildfly.bot.config;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import io.xstefank.wildfly.bot.model.Description;
+import io.xstefank.wildfly.bot.model.Format;
+import io.xstefank.wildfly.bot.model.RegexDefinition;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.BotCommentIndex;
+import io.xstefank.wildfly.bot.util.CommitStatusCache;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import org.kohsuke.github.GHCheckRun;
+import org.kohsuke.github.GHCommitStatus;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHPullRequestChanges;
+import org.kohsuke.github.GHPullRequestCommitDetail;
+import org.kohsuke.github.GHPullRequestFileDetail;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
+
+/**
+ * Registers the classes bound by Jackson for reflection, so they can be deserialized in the native executable.
+ * The configuration file model is bound from YAML and the state of the {@link PullRequestStateStore} from JSON.
+ * The GitHub App extension registers the payloads of the webhook events, the GitHub types the bot reads
+ * with additional requests are registered here as well.
+ */
+@RegisterForReflection(targets = {
+        WildFlyConfigFile.class,
+        WildFlyConfigFile.WildFlyConfig.class,
+        WildFlyConfigFile.WildFlyRule.class,
+        Format.class,
+        Format.RegexPattern.class,
+        Format.TitlePattern.class,
+        Format.CommitPattern.class,
+        Description.class,
+        RegexDefinition.class,
+        PullRequestStateStore.PullRequestState.class,
+        PullRequestStateStore.CommitStatuses.class,
+        CommitStatusCache.Status.class,
+        BotCommentIndex.BotComment.class,
+        GHCheckRun.class,
+        GHCommitStatus.class,
+        GHCompare.class,
+        GHCompare.Commit.class,
+        GHPullRequestChanges.class,
+        GHPullRequestCommitDetail.class,
+        GHPullRequestCommitDetail.Commit.class,
+        GHPullRequestFileDetail.class,
+        GHTree.class,
+        GHTreeEntry.class
+})
+public class NativeImageReflection {
+}
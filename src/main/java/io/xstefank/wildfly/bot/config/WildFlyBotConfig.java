@@ -3,6 +3,7 @@ package io.xstefank.wildfly.bot.config;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
+import java.time.Duration;
 import java.util.Optional;
 
 @ConfigMapping(prefix = "wildfly-bot")
@@ -16,4 +17,184 @@ public interface WildFlyBotConfig {
     default boolean isDryRun() {
         return dryRun().orElse(false);
     }
+
+    /**
+     * How long the labels of a repository are cached before they are listed from GitHub again. Labels changed
+     * in the meantime by anyone else than the bot are not seen for this long, unless the label webhook event
+     * is received. Listing unchanged labels again does not count against the rate limit. Zero disables the cache.
+     */
+    @WithDefault("1m")
+    Duration labelCacheTtl();
+
+    /**
+     * Maximum number of GitHub users cached by their login. Zero disables the cache.
+     */
+    @WithDefault("1000")
+    int userCacheSize();
+
+    /**
+     * How long the bot waits for newer events of the same pull request before processing a pull request event.
+     * The events are queued per pull request and only the latest one is processed, once no newer event
+     * is received within this window. Zero disables the debouncing, so the events are processed right away.
+     */
+    @WithDefault("3s")
+    Duration pullRequestDebounce();
+
+    /**
+     * Whether the format checks of a pull request are run concurrently.
+     */
+    @WithDefault("false")
+    boolean parallelChecks();
+
+    /**
+     * How long the bot waits for each of the format checks run concurrently to finish. A timed out check
+     * is abandoned, not stopped, it keeps running in the background until it finishes.
+     */
+    @WithDefault("30s")
+    Duration checkTimeout();
+
+    /**
+     * Maximum number of distinct parsed configuration files cached by the SHA of their content.
+     * Zero disables the cache.
+     */
+    @WithDefault("100")
+    int configFileCacheSize();
+
+    /**
+     * How the validation of the configuration files of all installed repositories at startup affects
+     * the application startup.
+     */
+    @WithDefault("readiness")
+    StartupScanMode startupScanMode();
+
+    /**
+     * Maximum number of repositories validated concurrently at startup.
+     */
+    @WithDefault("4")
+    int startupScanConcurrency();
+
+    /**
+     * Number of GitHub requests of an installation left to webhook events. Background work, such as
+     * the startup validation of all repositories, is postponed until the rate limit is reset once
+     * no more requests remain.
+     */
+    @WithDefault("500")
+    int rateLimitReserve();
+
+    /**
+     * Maximum number of GitHub requests background work of an installation sends at once. Further requests
+     * are sent at the rate the rate limit of the installation is replenished over its hourly window.
+     */
+    @WithDefault("100")
+    int rateLimitBurst();
+
+    /**
+     * Maximum time background work waits for webhook events of the same installation to be processed
+     * before it sends a request.
+     */
+    @WithDefault("5s")
+    Duration rateLimitMaxYield();
+
+    /**
+     * Maximum number of repository trees cached for the validation of rule directories.
+     * Zero disables the cache.
+     */
+    @WithDefault("20")
+    int repositoryTreeCacheSize();
+
+    /**
+     * Maximum number of pull requests whose bot comments are remembered, so their comments
+     * do not have to be listed on every event. Zero disables the index.
+     */
+    @WithDefault("1000")
+    int botCommentIndexSize();
+
+    /**
+     * Maximum number of commits whose last posted statuses are remembered, so the same status
+     * is not posted again. Zero disables the cache.
+     */
+    @WithDefault("1000")
+    int commitStatusCacheSize();
+
+    /**
+     * Whether the statuses of a commit not known to the cache are listed from GitHub before the first
+     * status of the commit is posted. This trades one read for each new commit for skipping the statuses
+     * already posted before a restart.
+     */
+    @WithDefault("false")
+    boolean seedCommitStatuses();
+
+    /**
+     * Maximum number of commits whose commit message check results are remembered, and of pull requests
+     * whose commits are remembered, so only new commits are fetched and checked. Zero disables the cache.
+     */
+    @WithDefault("10000")
+    int commitMessageCacheSize();
+
+    /**
+     * Maximum number of keys of processed webhook deliveries remembered, so a pull request event delivered
+     * again is not processed twice. Zero disables the detection of duplicate deliveries.
+     */
+    @WithDefault("10000")
+    int deliveryHistorySize();
+
+    /**
+     * Directory the pull request webhook deliveries and the GitHub REST responses are recorded to,
+     * so they can be replayed by the load test harness. Nothing is recorded if the directory is not set.
+     */
+    Optional<String> recordDirectory();
+
+    /**
+     * File of the embedded store keeping the bot comments and the commit statuses of pull requests across
+     * restarts of the bot. The store is disabled if the path is not set.
+     */
+    Optional<String> stateStorePath();
+
+    /**
+     * How long the state of closed pull requests and the statuses of commits without new statuses
+     * are kept in the state store.
+     */
+    @WithDefault("168h")
+    Duration stateStoreTtl();
+
+    /**
+     * How often the expired state is removed from the state store and its file is compacted.
+     */
+    @WithDefault("1h")
+    Duration stateStoreMaintenanceInterval();
+
+    /**
+     * How the results of the format and configuration file checks are published on pull requests.
+     */
+    @WithDefault("commit-status")
+    ReportMode reportMode();
+
+    enum StartupScanMode {
+        /**
+         * The application starts only after all repositories are validated.
+         */
+        STARTUP,
+        /**
+         * The repositories are validated in the background and the application reports readiness
+         * only after all of them are validated.
+         */
+        READINESS,
+        /**
+         * The repositories are validated in the background after the application is ready.
+         */
+        BACKGROUND
+    }
+
+    enum ReportMode {
+        /**
+         * Each check posts a commit status and failed format checks are described in a pull request comment.
+         */
+        COMMIT_STATUS,
+        /**
+         * Each check publishes a single check run for the head commit with the results of all its checks
+         * in the output of the check run. No pull request comments are posted. The GitHub App needs
+         * the Checks read and write permission.
+         */
+        CHECK_RUN
+    }
 }
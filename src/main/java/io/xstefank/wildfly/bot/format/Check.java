@@ -1,5 +1,6 @@
 package io.xstefank.wildfly.bot.format;
 
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
 import org.kohsuke.github.GHPullRequest;
 
 import java.io.IOException;
@@ -20,5 +21,16 @@ public interface Check {
      */
     String check(GHPullRequest pullRequest) throws IOException;
 
+    /**
+     * Performs the validation with the pull request data already fetched for the
+     * current event. Checks listing the pull request data should override this method.
+     *
+     * @param snapshot lazily fetched data of the pull request
+     * @return null if check passed, error message otherwise
+     */
+    default String check(PullRequestSnapshot snapshot) throws IOException {
+        return check(snapshot.pullRequest());
+    }
+
     String getName();
 }
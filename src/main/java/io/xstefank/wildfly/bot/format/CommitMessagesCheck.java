@@ -1,12 +1,16 @@
 package io.xstefank.wildfly.bot.format;
 
 import io.xstefank.wildfly.bot.model.RegexDefinition;
+import io.xstefank.wildfly.bot.util.CommitMessageCache;
+import io.xstefank.wildfly.bot.util.CommitMessageCache.Commit;
+import io.xstefank.wildfly.bot.util.CommitMessageCache.Result;
 import io.xstefank.wildfly.bot.util.Patterns;
+import io.xstefank.wildfly.bot.util.PullRequestSnapshot;
 import org.kohsuke.github.GHPullRequest;
-import org.kohsuke.github.GHPullRequestCommitDetail;
-import org.kohsuke.github.PagedIterable;
-import java.util.regex.Pattern;
+
 import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import static io.xstefank.wildfly.bot.model.RuntimeConstants.DEPENDABOT;
 
@@ -14,44 +18,75 @@ public class CommitMessagesCheck implements Check {
 
     private final Pattern pattern;
     private final String message;
+    private final CommitMessageCache cache;
 
     public CommitMessagesCheck(RegexDefinition description) {
+        this(description, null);
+    }
+
+    /**
+     * @param cache results of the commits checked for previous events, or null to check all commits every time
+     */
+    public CommitMessagesCheck(RegexDefinition description, CommitMessageCache cache) {
         if (description.pattern == null) {
             throw new IllegalArgumentException("Input argument cannot be null");
         }
         pattern = description.pattern;
         message = description.message;
+        this.cache = cache;
     }
 
     @Override
     public String check(GHPullRequest pullRequest) throws IOException {
-        if (pullRequest.getUser().getLogin().equals(DEPENDABOT)) {
+        return check(new PullRequestSnapshot(pullRequest));
+    }
+
+    @Override
+    public String check(PullRequestSnapshot snapshot) throws IOException {
+        if (snapshot.pullRequest().getUser().getLogin().equals(DEPENDABOT)) {
             // skip for dependabot for now
             return null;
         }
 
-        PagedIterable<GHPullRequestCommitDetail> commits = pullRequest.listCommits();
-        if (commits != null) {
-            boolean oneMatched = false;
-            for (GHPullRequestCommitDetail commit : commits) {
-                if (commit.getCommit() != null) {
-                    String commitMessage = commit.getCommit().getMessage();
-                    if (commitMessage.isEmpty()) {
-                        return commit.getSha() + ": Commit message is Empty";
-                    }
-
-                    if (Patterns.matches(pattern, commitMessage)) {
-                        oneMatched = true;
-                        break;
-                    }
+        return check(snapshot, false);
+    }
+
+    private String check(PullRequestSnapshot snapshot, boolean listAll) throws IOException {
+        List<Commit> commits = cache == null
+                ? CommitMessageCache.listed(snapshot)
+                : cache.commits(snapshot, listAll);
+
+        for (Commit commit : commits) {
+            Result result;
+            if (commit.message() != null) {
+                result = check(commit.message());
+                if (cache != null) {
+                    cache.checked(commit.sha(), pattern, result);
                 }
+            } else {
+                result = cache.result(commit.sha(), pattern);
+                if (result == null) {
+                    // the result of the commit is no longer remembered
+                    return check(snapshot, true);
+                }
+            }
+
+            if (result == Result.EMPTY) {
+                return commit.sha() + ": Commit message is Empty";
             }
-            if (!oneMatched) {
-                return String.format(this.message, pattern.pattern());
+            if (result == Result.MATCHED) {
+                return null;
             }
         }
 
-        return null;
+        return String.format(this.message, pattern.pattern());
+    }
+
+    private Result check(String commitMessage) {
+        if (commitMessage.isEmpty()) {
+            return Result.EMPTY;
+        }
+        return Patterns.matches(pattern, commitMessage) ? Result.MATCHED : Result.NOT_MATCHED;
     }
 
     @Override
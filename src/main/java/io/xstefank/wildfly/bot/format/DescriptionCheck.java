@@ -4,8 +4,8 @@ import io.xstefank.wildfly.bot.model.Description;
 import io.xstefank.wildfly.bot.model.RegexDefinition;
 import org.kohsuke.github.GHPullRequest;
 
+import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class DescriptionCheck implements Check {
     static final String DEFAULT_MESSAGE = "Invalid description content";
@@ -28,35 +28,81 @@ public class DescriptionCheck implements Check {
         }
     }
 
+    /**
+     * Every regex has to be found on a single line of the description. The description is walked line
+     * by line only once, each line is matched against the regexes not found yet and the walk ends as soon
+     * as all regexes are found. The lines are matched as regions of the description, so no line is copied.
+     * The lines are the same as the lines split by {@code body.split("\\r?\\n")}.
+     */
     @Override
     public String check(GHPullRequest pullRequest) {
-        try {
-            String body = pullRequest.getBody();
-            String[] lines = body.split("\\r?\\n");
-
-            for (RegexDefinition regexDefinition : description.regexes) {
-                Pattern pattern = regexDefinition.pattern;
-
-                boolean regexMatched = false;
-                for (String line : lines) {
-                    Matcher matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        regexMatched = true;
-                        break;
-                    }
-                }
+        String body = pullRequest.getBody();
+        if (body == null) {
+            return message;
+        }
+
+        List<RegexDefinition> regexes = description.regexes;
+        Matcher[] matchers = new Matcher[regexes.size()];
+        for (int i = 0; i < matchers.length; i++) {
+            if (regexes.get(i).pattern == null) {
+                return message;
+            }
+            matchers[i] = regexes.get(i).pattern.matcher(body);
+        }
 
-                if (!regexMatched) {
-                    return regexDefinition.message != null ? regexDefinition.message : message;
+        int remaining = matchers.length;
+        int end = linesEnd(body);
+        int lineStart = 0;
+        // a description made of line breaks only has no lines, an empty description has a single empty line
+        while (remaining > 0 && (end > 0 || body.isEmpty())) {
+            int lineBreak = body.indexOf('\n', lineStart);
+            if (lineBreak >= end) {
+                lineBreak = -1;
+            }
+            int lineEnd = lineBreak < 0 ? end : lineBreak;
+            if (lineBreak >= 0 && lineEnd > lineStart && body.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            for (int i = 0; i < matchers.length; i++) {
+                // anchoring bounds make ^ and $ match at the start and the end of the line
+                if (matchers[i] != null && matchers[i].region(lineStart, lineEnd).find()) {
+                    matchers[i] = null;
+                    remaining--;
                 }
             }
-        } catch (NullPointerException e) {
-            return message;
+
+            if (lineBreak < 0) {
+                break;
+            }
+            lineStart = lineBreak + 1;
+        }
+
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i] != null) {
+                RegexDefinition regexDefinition = regexes.get(i);
+                return regexDefinition.message != null ? regexDefinition.message : message;
+            }
         }
 
         return null;
     }
 
+    /**
+     * @return the end of the last line of the description, the empty lines at the end of the description
+     *         are dropped the same way as by {@code body.split("\\r?\\n")}
+     */
+    private static int linesEnd(String body) {
+        int end = body.length();
+        while (end > 0 && body.charAt(end - 1) == '\n') {
+            end--;
+            if (end > 0 && body.charAt(end - 1) == '\r') {
+                end--;
+            }
+        }
+        return end;
+    }
+
     @Override
     public String getName() {
         return "description";
@@ -0,0 +1,41 @@
+package io.xstefank.wildfly.bot.health;
+
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Reports the application as not ready until the configuration files of all installed repositories
+ * are validated, unless the validation runs in the background.
+ */
+@Readiness
+@ApplicationScoped
+public class StartupScanReadinessCheck implements HealthCheck {
+
+    private static final String NAME = "Startup scan";
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    private volatile boolean scanCompleted;
+
+    @Override
+    public HealthCheckResponse call() {
+        if (wildFlyBotConfig.startupScanMode() == WildFlyBotConfig.StartupScanMode.BACKGROUND
+                || scanCompleted) {
+            return HealthCheckResponse.up(NAME);
+        }
+        return HealthCheckResponse.down(NAME);
+    }
+
+    public void scanStarted() {
+        scanCompleted = false;
+    }
+
+    public void scanCompleted() {
+        scanCompleted = true;
+    }
+}
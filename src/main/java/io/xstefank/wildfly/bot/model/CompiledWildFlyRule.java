@@ -0,0 +1,33 @@
+package io.xstefank.wildfly.bot.model;
+
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile.WildFlyRule;
+import io.xstefank.wildfly.bot.util.Patterns;
+
+import java.util.regex.Pattern;
+
+/**
+ * {@link WildFlyRule} with its title, body and titleBody patterns compiled up front,
+ * so they are not compiled again for every incoming event.
+ */
+public final class CompiledWildFlyRule {
+
+    public final WildFlyRule rule;
+
+    public final Pattern title;
+
+    public final Pattern body;
+
+    public final Pattern titleBody;
+
+    public CompiledWildFlyRule(WildFlyRule rule) {
+        this.rule = rule;
+        this.title = Patterns.compileWord(rule.title);
+        this.body = Patterns.compileWord(rule.body);
+        this.titleBody = Patterns.compileWord(rule.titleBody);
+    }
+
+    @Override
+    public String toString() {
+        return rule.toString();
+    }
+}
@@ -1,8 +1,11 @@
 package io.xstefank.wildfly.bot.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.annotation.Nulls;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.xstefank.wildfly.bot.util.DirectoryIndex;
+import io.xstefank.wildfly.bot.util.RuleTextIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +45,56 @@ public class WildFlyConfigFile {
         }
 
         public List<String> emails;
+
+        private volatile List<CompiledWildFlyRule> compiledRules;
+
+        private volatile DirectoryIndex directoryIndex;
+
+        private volatile RuleTextIndex ruleTextIndex;
+
+        /**
+         * Returns the rules with their patterns compiled. The rules are compiled on the first
+         * access and reused for the lifetime of this configuration.
+         */
+        @JsonIgnore
+        public List<CompiledWildFlyRule> getCompiledRules() {
+            List<CompiledWildFlyRule> compiled = compiledRules;
+            if (compiled == null) {
+                compiled = rules.stream()
+                        .map(CompiledWildFlyRule::new)
+                        .toList();
+                compiledRules = compiled;
+            }
+            return compiled;
+        }
+
+        /**
+         * Returns the index of directories of all rules. The index is built on the first access and reused
+         * for the lifetime of this configuration.
+         */
+        @JsonIgnore
+        public DirectoryIndex getDirectoryIndex() {
+            DirectoryIndex index = directoryIndex;
+            if (index == null) {
+                index = new DirectoryIndex(getCompiledRules());
+                directoryIndex = index;
+            }
+            return index;
+        }
+
+        /**
+         * Returns the index of the title, body and titleBody of all rules. The index is built on the first access
+         * and reused for the lifetime of this configuration.
+         */
+        @JsonIgnore
+        public RuleTextIndex getRuleTextIndex() {
+            RuleTextIndex index = ruleTextIndex;
+            if (index == null) {
+                index = new RuleTextIndex(getCompiledRules());
+                ruleTextIndex = index;
+            }
+            return index;
+        }
     }
 
     public static final class WildFlyRule {
@@ -0,0 +1,173 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHPullRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the comments of the bot on pull requests across events, so the comments of a pull request
+ * are listed only when the pull request is not indexed yet. Indexed comments are updated and deleted
+ * by their node id, see {@link GithubProcessor}. The index is written through to the {@link PullRequestStateStore},
+ * so the comments are not listed again after a restart either.
+ */
+@ApplicationScoped
+public class BotCommentIndex {
+
+    public enum Kind {
+        FORMAT("Failed format check"),
+        CC("/cc");
+
+        private final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public boolean matches(String body) {
+            return body != null && body.startsWith(prefix);
+        }
+    }
+
+    /**
+     * Comment of the bot with its mentioned users already parsed for {@link Kind#CC} comments.
+     */
+    public record BotComment(long id, String nodeId, String body, List<String> mentions) {
+
+        public static BotComment of(GHIssueComment comment) {
+            return of(comment.getId(), comment.getNodeId(), comment.getBody());
+        }
+
+        public static BotComment of(long id, String nodeId, String body) {
+            return new BotComment(id, nodeId, body, Kind.CC.matches(body) ? parseMentions(body) : List.of());
+        }
+
+        private static List<String> parseMentions(String body) {
+            return Arrays.stream(body.split(" @"))
+                    .skip(1)
+                    .map(s -> s.endsWith(",")
+                            ? s.substring(0, s.length() - 1)
+                            : s)
+                    .toList();
+        }
+    }
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    private LruCache<Long, Map<Kind, BotComment>> index;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void construct() {
+        index = new LruCache<>(wildFlyBotConfig.botCommentIndexSize());
+        hits = Counter.builder("cache.gets").tag("cache", "bot-comments").tag("result", "hit")
+                .description("The number of times the bot comments of a pull request were found in the index")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "bot-comments").tag("result", "miss")
+                .description("The number of times the comments of a pull request were listed from GitHub")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "bot-comments"), index, LruCache::size);
+    }
+
+    /**
+     * Finds the comment of the bot of the given kind. The comments of the pull request are listed only
+     * if the pull request is neither indexed nor stored.
+     */
+    public Optional<BotComment> find(PullRequestSnapshot snapshot, Kind kind) throws IOException {
+        Map<Kind, BotComment> comments = get(snapshot.pullRequest());
+        if (comments != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            comments = scan(snapshot);
+            put(snapshot.pullRequest(), comments);
+        }
+        return Optional.ofNullable(comments.get(kind));
+    }
+
+    public void created(GHPullRequest pullRequest, Kind kind, GHIssueComment comment) {
+        if (comment == null) {
+            invalidate(pullRequest);
+        } else {
+            update(pullRequest, kind, BotComment.of(comment));
+        }
+    }
+
+    public void updated(GHPullRequest pullRequest, Kind kind, BotComment comment, String body) {
+        update(pullRequest, kind, BotComment.of(comment.id(), comment.nodeId(), body));
+    }
+
+    public void deleted(GHPullRequest pullRequest, Kind kind) {
+        update(pullRequest, kind, null);
+    }
+
+    public void invalidate(GHPullRequest pullRequest) {
+        index.invalidate(pullRequest.getId());
+        stateStore.comments(pullRequest, null);
+    }
+
+    private Map<Kind, BotComment> get(GHPullRequest pullRequest) {
+        Map<Kind, BotComment> comments = index.get(pullRequest.getId());
+        if (comments == null) {
+            comments = stateStore.comments(pullRequest);
+            if (comments != null) {
+                index.put(pullRequest.getId(), comments);
+            }
+        }
+        return comments;
+    }
+
+    private void put(GHPullRequest pullRequest, Map<Kind, BotComment> comments) {
+        index.put(pullRequest.getId(), comments);
+        stateStore.comments(pullRequest, comments);
+    }
+
+    private void update(GHPullRequest pullRequest, Kind kind, BotComment comment) {
+        Map<Kind, BotComment> comments = get(pullRequest);
+        if (comments != null) {
+            // the maps are replaced, never modified, as they are shared by concurrent events
+            Map<Kind, BotComment> updated = new EnumMap<>(Kind.class);
+            updated.putAll(comments);
+            if (comment == null) {
+                updated.remove(kind);
+            } else {
+                updated.put(kind, comment);
+            }
+            put(pullRequest, updated);
+        }
+    }
+
+    private Map<Kind, BotComment> scan(PullRequestSnapshot snapshot) throws IOException {
+        Map<Kind, BotComment> comments = new EnumMap<>(Kind.class);
+        for (GHIssueComment comment : snapshot.comments()) {
+            if (comment.getUser().getLogin().equals(wildFlyBotConfig.githubName())) {
+                for (Kind kind : Kind.values()) {
+                    if (kind.matches(comment.getBody())) {
+                        comments.putIfAbsent(kind, BotComment.of(comment));
+                    }
+                }
+            }
+        }
+        return comments;
+    }
+}
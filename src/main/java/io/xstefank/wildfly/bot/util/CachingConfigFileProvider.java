@@ -0,0 +1,126 @@
+package io.xstefank.wildfly.bot.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkiverse.githubapp.ConfigFile;
+import io.quarkiverse.githubapp.GitHubConfigFileProvider;
+import io.quarkiverse.githubapp.runtime.UtilsProducer;
+import io.quarkiverse.githubapp.runtime.github.GitHubConfigFileProviderImpl;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * {@link GitHubConfigFileProvider} reusing parsed {@link WildFlyConfigFile}s across events. The parsed files
+ * are cached by the git blob SHA of their content, so an unchanged configuration file is deserialized
+ * and its rules are compiled only once. Other types of configuration files are fetched by the default provider.
+ * The provider replaces the default {@link GitHubConfigFileProviderImpl}, which the extension uses to resolve
+ * the {@link ConfigFile} parameters of the event methods, so those are cached as well.
+ */
+@Alternative
+@Priority(1)
+@ApplicationScoped
+public class CachingConfigFileProvider extends GitHubConfigFileProviderImpl {
+
+    @Inject
+    @UtilsProducer.Yaml
+    ObjectMapper yamlObjectMapper;
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private LruCache<String, WildFlyConfigFile> configFiles;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void construct() {
+        configFiles = new LruCache<>(wildFlyBotConfig.configFileCacheSize());
+        hits = Counter.builder("cache.gets").tag("cache", "config-files").tag("result", "hit")
+                .description("The number of times a parsed configuration file was found in the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "config-files").tag("result", "miss")
+                .description("The number of times a configuration file was parsed")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "config-files"), configFiles, LruCache::size);
+    }
+
+    @Override
+    public <T> Optional<T> fetchConfigFile(GHRepository repository, String path, ConfigFile.Source source,
+            Class<T> type) {
+        return fetchConfigFile(repository, null, path, source, type);
+    }
+
+    @Override
+    public <T> Optional<T> fetchConfigFile(GHRepository repository, String ref, String path, ConfigFile.Source source,
+            Class<T> type) {
+        if (!WildFlyConfigFile.class.equals(type)) {
+            return super.fetchConfigFile(repository, ref, path, source, type);
+        }
+
+        Optional<String> content = super.fetchConfigFile(repository, ref, path, source, String.class);
+        if (content.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(type.cast(parse(content.get())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error deserializing config file " + path + " to type " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Parses the content of the configuration file or returns the already parsed file with the same content.
+     *
+     * @return parsed configuration file or null if the content is empty
+     */
+    public WildFlyConfigFile parse(String content) throws JsonProcessingException {
+        String blobSha = blobSha(content);
+        WildFlyConfigFile configFile = configFiles.get(blobSha);
+        if (configFile != null) {
+            hits.increment();
+            return configFile;
+        }
+
+        misses.increment();
+        configFile = yamlObjectMapper.readValue(content, WildFlyConfigFile.class);
+        if (configFile != null) {
+            // compile the rules once, so every event using the cached file gets them for free
+            configFile.wildfly.getDirectoryIndex();
+            configFiles.put(blobSha, configFile);
+        }
+        return configFile;
+    }
+
+    /**
+     * @return SHA-1 of the content computed the same way as git computes the SHA of a blob
+     */
+    static String blobSha(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + bytes.length + "\0").getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestCommitDetail;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers the commits of pull requests and the results of the commit message check of every commit,
+ * so the commits of a pull request are not listed again on every event. If the head of the pull request
+ * did not change, e.g. on {@code edited} events, the remembered commits are checked without any request.
+ * If new commits were pushed on top of the remembered head, only the new commits are fetched by comparing
+ * the remembered head with the new one. All commits are listed otherwise, e.g. after a force push or
+ * once the base of the pull request changed, as the commits of the pull request depend on its base.
+ */
+@ApplicationScoped
+public class CommitMessageCache {
+
+    public enum Result {
+        EMPTY,
+        MATCHED,
+        NOT_MATCHED
+    }
+
+    /**
+     * Commit of the pull request. The message is null if the commit was listed for a previous event.
+     */
+    public record Commit(String sha, String message) {
+    }
+
+    private record History(String base, String head, List<String> shas) {
+    }
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private LruCache<String, History> histories;
+    private LruCache<String, Result> results;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void construct() {
+        histories = new LruCache<>(wildFlyBotConfig.commitMessageCacheSize());
+        results = new LruCache<>(wildFlyBotConfig.commitMessageCacheSize());
+        hits = Counter.builder("cache.gets").tag("cache", "commit-messages").tag("result", "hit")
+                .description("The number of commit message checks skipped as the result of the commit was known")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "commit-messages").tag("result", "miss")
+                .description("The number of commit messages checked")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "commit-messages"), results, LruCache::size);
+    }
+
+    /**
+     * @param listAll whether all commits are listed even if the pull request is known
+     * @return the commits of the pull request from the oldest one
+     */
+    public List<Commit> commits(PullRequestSnapshot snapshot, boolean listAll) throws IOException {
+        GHPullRequest pullRequest = snapshot.pullRequest();
+        String head = pullRequest.getHead() == null ? null : pullRequest.getHead().getSha();
+        String base = pullRequest.getBase() == null ? null
+                : pullRequest.getBase().getRef() + "@" + pullRequest.getBase().getSha();
+        String key = key(pullRequest);
+        History history = listAll || head == null ? null : histories.get(key);
+        if (history != null && !Objects.equals(history.base(), base)) {
+            // e.g. the pull request was retargeted to another branch
+            history = null;
+        }
+
+        List<Commit> commits;
+        if (history != null && history.head().equals(head)) {
+            commits = known(history);
+        } else if (history != null) {
+            List<Commit> newCommits = compare(pullRequest.getRepository(), history.head(), head);
+            if (newCommits == null) {
+                commits = listed(snapshot);
+            } else {
+                commits = known(history);
+                commits.addAll(newCommits);
+            }
+        } else {
+            commits = listed(snapshot);
+        }
+
+        if (head != null) {
+            histories.put(key, new History(base, head, commits.stream().map(Commit::sha).toList()));
+        }
+        return commits;
+    }
+
+    /**
+     * @return the result of the check of the commit message, or null if it is not known
+     */
+    public Result result(String sha, Pattern pattern) {
+        Result result = results.get(resultKey(sha, pattern));
+        if (result != null) {
+            hits.increment();
+        }
+        return result;
+    }
+
+    public void checked(String sha, Pattern pattern, Result result) {
+        misses.increment();
+        results.put(resultKey(sha, pattern), result);
+    }
+
+    /**
+     * @return all commits of the pull request with their messages
+     */
+    public static List<Commit> listed(PullRequestSnapshot snapshot) {
+        List<Commit> commits = new ArrayList<>();
+        for (GHPullRequestCommitDetail commit : snapshot.commits()) {
+            if (commit.getCommit() != null) {
+                String message = commit.getCommit().getMessage();
+                commits.add(new Commit(commit.getSha(), message == null ? "" : message));
+            }
+        }
+        return commits;
+    }
+
+    private static List<Commit> known(History history) {
+        List<Commit> commits = new ArrayList<>();
+        for (String sha : history.shas()) {
+            commits.add(new Commit(sha, null));
+        }
+        return commits;
+    }
+
+    /**
+     * @return the commits pushed on top of the base, or null if the head is not a descendant of the base
+     *         or the comparison does not contain all the commits
+     */
+    private static List<Commit> compare(GHRepository repository, String base, String head) throws IOException {
+        GHCompare compare = repository == null ? null : repository.getCompare(base, head);
+        if (compare == null || compare.getStatus() != GHCompare.Status.ahead || compare.getCommits() == null
+                || compare.getCommits().length != compare.getTotalCommits()) {
+            return null;
+        }
+
+        List<Commit> commits = new ArrayList<>();
+        for (GHCompare.Commit commit : compare.getCommits()) {
+            String message = commit.getCommitShortInfo().getMessage();
+            commits.add(new Commit(commit.getSHA1(), message == null ? "" : message));
+        }
+        return commits;
+    }
+
+    private static String key(GHPullRequest pullRequest) {
+        return pullRequest.getRepository().getFullName() + "#" + pullRequest.getNumber();
+    }
+
+    private static String resultKey(String sha, Pattern pattern) {
+        return sha + "/" + pattern.flags() + "/" + pattern.pattern();
+    }
+}
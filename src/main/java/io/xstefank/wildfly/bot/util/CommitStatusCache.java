@@ -0,0 +1,113 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHCommitStatus;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.PagedIterable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers the last commit status posted for each context of a commit, so the same status is not
+ * posted again on every event of a pull request. Optionally, the statuses of a commit not posted by
+ * this instance are listed from GitHub once, so even the first event after a restart does not repost them.
+ * The statuses are written through to the {@link PullRequestStateStore}, which serves the same purpose
+ * without listing the statuses.
+ */
+@ApplicationScoped
+public class CommitStatusCache {
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    private LruCache<String, Map<String, Status>> statuses;
+    private Counter hits;
+    private Counter misses;
+
+    public record Status(GHCommitState state, String description) {
+    }
+
+    @PostConstruct
+    void construct() {
+        statuses = new LruCache<>(wildFlyBotConfig.commitStatusCacheSize());
+        hits = Counter.builder("cache.gets").tag("cache", "commit-statuses").tag("result", "hit")
+                .description("The number of commit statuses not posted as the commit already has the same status")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "commit-statuses").tag("result", "miss")
+                .description("The number of commit statuses posted to GitHub")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "commit-statuses"), statuses, LruCache::size);
+    }
+
+    /**
+     * @return true if the commit already has the status with the same state and description in the context
+     */
+    public boolean isPosted(GHRepository repository, String sha, String context, GHCommitState state, String description)
+            throws IOException {
+        Map<String, Status> commitStatuses = statuses.get(key(repository, sha));
+        if (commitStatuses == null) {
+            commitStatuses = stateStore.statuses(repository, sha);
+            if (commitStatuses != null) {
+                statuses.put(key(repository, sha), commitStatuses);
+            }
+        }
+        if (commitStatuses == null && wildFlyBotConfig.seedCommitStatuses()) {
+            commitStatuses = listStatuses(repository, sha);
+            statuses.put(key(repository, sha), commitStatuses);
+        }
+
+        if (commitStatuses != null && new Status(state, description).equals(commitStatuses.get(context))) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    public void posted(GHRepository repository, String sha, String context, GHCommitState state, String description) {
+        String key = key(repository, sha);
+        Map<String, Status> commitStatuses = statuses.get(key);
+        if (commitStatuses == null) {
+            commitStatuses = stateStore.statuses(repository, sha);
+        }
+        // the maps are replaced, never modified, as they are shared by concurrent events
+        Map<String, Status> updated = commitStatuses == null ? new HashMap<>() : new HashMap<>(commitStatuses);
+        updated.put(context, new Status(state, description));
+        statuses.put(key, Map.copyOf(updated));
+        stateStore.statuses(repository, sha, updated);
+    }
+
+    private static Map<String, Status> listStatuses(GHRepository repository, String sha) throws IOException {
+        Map<String, Status> commitStatuses = new HashMap<>();
+        PagedIterable<GHCommitStatus> iterable = repository.listCommitStatuses(sha);
+        if (iterable != null) {
+            // statuses are listed from the most recent one, which is the current status of the context
+            for (GHCommitStatus status : iterable) {
+                if (status.getContext() != null) {
+                    commitStatuses.putIfAbsent(status.getContext(),
+                            new Status(status.getState(), status.getDescription()));
+                }
+            }
+        }
+        return Map.copyOf(commitStatuses);
+    }
+
+    static String key(GHRepository repository, String sha) {
+        return repository.getFullName() + "@" + sha;
+    }
+}
@@ -0,0 +1,82 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+
+/**
+ * Remembers the keys of the webhook deliveries processed recently, so a delivery received again is not
+ * processed twice. The keys are kept in memory and in the {@link PullRequestStateStore}, if it is enabled,
+ * so even deliveries redelivered after a restart are recognized. The detection is disabled, in memory and
+ * in the store, if {@link WildFlyBotConfig#deliveryHistorySize()} is zero.
+ */
+@ApplicationScoped
+public class DeliveryHistory {
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    private LruCache<String, Boolean> deliveries;
+    private Counter duplicates;
+
+    @PostConstruct
+    void construct() {
+        deliveries = new LruCache<>(wildFlyBotConfig.deliveryHistorySize());
+        duplicates = Counter.builder("pull_request.events.duplicate")
+                .description("The number of pull request events skipped as the same delivery was already processed")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "deliveries"), deliveries, LruCache::size);
+    }
+
+    /**
+     * Claims the keys of a delivery for processing.
+     *
+     * @return false if any of the keys was already claimed, so the delivery is a duplicate
+     */
+    public synchronized boolean claim(List<String> keys) {
+        if (isDisabled()) {
+            return true;
+        }
+        for (String key : keys) {
+            if (deliveries.get(key) != null || stateStore.isDelivered(key)) {
+                duplicates.increment();
+                return false;
+            }
+        }
+        for (String key : keys) {
+            deliveries.put(key, Boolean.TRUE);
+            stateStore.delivered(key);
+        }
+        return true;
+    }
+
+    /**
+     * Releases the keys of a delivery which failed to be processed, so the delivery can be processed
+     * again once it is redelivered.
+     */
+    public synchronized void release(List<String> keys) {
+        if (isDisabled()) {
+            return;
+        }
+        for (String key : keys) {
+            deliveries.invalidate(key);
+            stateStore.undelivered(key);
+        }
+    }
+
+    private boolean isDisabled() {
+        return wildFlyBotConfig.deliveryHistorySize() <= 0;
+    }
+}
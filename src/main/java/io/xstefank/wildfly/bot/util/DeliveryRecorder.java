@@ -0,0 +1,144 @@
+package io.xstefank.wildfly.bot.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkiverse.githubapp.GitHubEvent;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the pull request webhook deliveries and the GitHub REST responses of the requests sent while
+ * processing them to {@link WildFlyBotConfig#recordDirectory()}. Every delivery is written to its own file
+ * in the {@value #DELIVERIES} directory in the order of arrival, the responses are appended to
+ * the {@value #RESPONSES} file, one JSON object per line. The recording is replayed by the load test
+ * harness in {@code src/loadtest/java}.
+ */
+@ApplicationScoped
+public class DeliveryRecorder {
+
+    public static final String DELIVERIES = "deliveries";
+    public static final String RESPONSES = "responses.jsonl";
+
+    private static final Logger LOG = Logger.getLogger(DeliveryRecorder.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Path directory;
+
+    @PostConstruct
+    void construct() {
+        directory = wildFlyBotConfig.recordDirectory().map(Path::of).orElse(null);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public void record(GitHubEvent gitHubEvent) {
+        if (directory == null) {
+            return;
+        }
+        ObjectNode delivery = OBJECT_MAPPER.createObjectNode()
+                .put("event", gitHubEvent.getEvent())
+                .put("deliveryId", gitHubEvent.getDeliveryId());
+        try {
+            delivery.set("payload", OBJECT_MAPPER.readTree(gitHubEvent.getPayload()));
+            Path deliveries = Files.createDirectories(directory.resolve(DELIVERIES));
+            Files.writeString(deliveries.resolve("%06d-%s.json".formatted(sequence.incrementAndGet(),
+                    gitHubEvent.getDeliveryId())), OBJECT_MAPPER.writeValueAsString(delivery));
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to record the delivery %s", gitHubEvent.getDeliveryId());
+        }
+    }
+
+    /**
+     * @return connector recording the responses of the delegate, or the delegate if nothing is recorded
+     */
+    public GitHubConnector connector(GitHubConnector delegate) {
+        return directory == null ? delegate : request -> record(request, delegate.send(request));
+    }
+
+    private GitHubConnectorResponse record(GitHubConnectorRequest request, GitHubConnectorResponse response)
+            throws IOException {
+        byte[] body;
+        try (response) {
+            InputStream bodyStream = response.statusCode() == 204 || response.statusCode() == 304
+                    ? null
+                    : response.bodyStream();
+            body = bodyStream == null ? new byte[0] : bodyStream.readAllBytes();
+        } catch (IOException e) {
+            // error responses, e.g. 404, have no body stream, their body is read from the error stream
+            body = new byte[0];
+        }
+
+        URL url = request.url();
+        ObjectNode recorded = OBJECT_MAPPER.createObjectNode()
+                .put("method", request.method())
+                .put("path", url.getQuery() == null ? url.getPath() : url.getPath() + "?" + url.getQuery())
+                .put("status", response.statusCode())
+                .put("link", response.header("Link"))
+                .put("body", new String(body, StandardCharsets.UTF_8));
+        synchronized (this) {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(RESPONSES), OBJECT_MAPPER.writeValueAsString(recorded) + "\n",
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return new RecordedResponse(request, response, body);
+    }
+
+    /**
+     * Response with the body already read, so it can be read again by the GitHub client. The body is
+     * decoded already, so the encoding header is dropped.
+     */
+    private static final class RecordedResponse extends GitHubConnectorResponse {
+
+        private final byte[] body;
+
+        private RecordedResponse(GitHubConnectorRequest request, GitHubConnectorResponse response, byte[] body) {
+            super(request, response.statusCode(), headers(response));
+            this.body = body;
+        }
+
+        @Override
+        public InputStream bodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            // the response of the delegate is closed once its body is read
+        }
+
+        private static Map<String, List<String>> headers(GitHubConnectorResponse response) {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            response.allHeaders().forEach((name, values) -> {
+                if (name != null && !name.equalsIgnoreCase("Content-Encoding")) {
+                    headers.put(name, values);
+                }
+            });
+            return headers;
+        }
+    }
+}
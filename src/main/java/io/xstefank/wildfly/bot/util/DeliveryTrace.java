@@ -0,0 +1,52 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHPullRequest;
+
+/**
+ * Holds the root span of the webhook delivery. The span is started by the first processor handling
+ * the delivery and ended once all processors handling the delivery are done, so the spans of
+ * the processors, the checks and the GitHub requests of one delivery end up in a single trace.
+ */
+@RequestScoped
+public class DeliveryTrace {
+
+    @Inject
+    Tracer tracer;
+
+    private Span span;
+
+    /**
+     * @return context with the root span of the delivery
+     */
+    public synchronized Context context(GHEventPayload.PullRequest payload) {
+        if (span == null) {
+            GHPullRequest pullRequest = payload.getPullRequest();
+            span = tracer.spanBuilder("webhook pull_request")
+                    .setNoParent()
+                    .setSpanKind(SpanKind.CONSUMER)
+                    .setAttribute("github.event", "pull_request")
+                    .setAttribute("github.action", payload.getAction() == null ? "unknown" : payload.getAction())
+                    .setAttribute("github.repository", ProcessorMetrics.repository(pullRequest))
+                    .setAttribute("github.pull_request", pullRequest == null ? 0 : pullRequest.getNumber())
+                    .setAttribute("github.installation",
+                            payload.getInstallation() == null ? 0 : payload.getInstallation().getId())
+                    .startSpan();
+        }
+        return Context.root().with(span);
+    }
+
+    @PreDestroy
+    synchronized void completed() {
+        if (span != null) {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Path-prefix trie built from the {@code directories} of all rules. A changed file is matched against
+ * all rules at once by walking its parent directories, so the cost of the lookup depends only on the
+ * depth of the file and not on the number of rules or directories.
+ */
+public class DirectoryIndex {
+
+    private final Node root = new Node();
+    private final Set<CompiledWildFlyRule> indexedRules = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public DirectoryIndex(Collection<CompiledWildFlyRule> rules) {
+        for (CompiledWildFlyRule rule : rules) {
+            for (String directory : rule.rule.directories) {
+                Node node = root;
+                for (String segment : segments(directory.endsWith("/")
+                        ? directory.substring(0, directory.length() - 1)
+                        : directory)) {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+                node.rules.add(rule);
+                indexedRules.add(rule);
+            }
+        }
+    }
+
+    /**
+     * @return true if none of the rules has any directory specified
+     */
+    public boolean isEmpty() {
+        return indexedRules.isEmpty();
+    }
+
+    /**
+     * @return number of rules with at least one directory specified
+     */
+    public int size() {
+        return indexedRules.size();
+    }
+
+    /**
+     * Adds all rules with a directory containing the file to the {@code matchedRules}.
+     *
+     * @param filename path of the file relative to the repository root
+     * @param matchedRules set collecting the matched rules
+     */
+    public void match(String filename, Set<CompiledWildFlyRule> matchedRules) {
+        String[] segments = segments(filename);
+        Node node = root;
+        // the last segment is the file name itself, which can not be matched as a directory
+        for (int i = 0; i < segments.length - 1; i++) {
+            node = node.children.get(segments[i]);
+            if (node == null) {
+                return;
+            }
+            matchedRules.addAll(node.rules);
+        }
+    }
+
+    private static String[] segments(String path) {
+        return path.split("/", -1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<CompiledWildFlyRule> rules = new ArrayList<>();
+    }
+}
@@ -0,0 +1,278 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares the GitHub rate limit of each installation between webhook events and background work, such as
+ * the validation of all repositories at startup. The remaining budget of an installation is taken from the
+ * {@code X-RateLimit-*} headers of the last response received by a client of the installation and counted
+ * down locally by the background work in between. Webhook events are never delayed. Background work takes
+ * its requests from a token bucket of {@link WildFlyBotConfig#rateLimitBurst()} requests refilled at the rate
+ * the rate limit is replenished, gives way to events being processed and fails with
+ * {@link BudgetExhaustedException} once only {@link WildFlyBotConfig#rateLimitReserve()} requests remain,
+ * so it can be postponed until the rate limit is reset. Background work is run by
+ * {@link #background(long, BackgroundWork)}, so every request it sends through the
+ * {@link #connector(GitHubConnector)} acquires the budget first.
+ */
+@ApplicationScoped
+public class GitHubRateLimiter {
+
+    private static final Logger LOG = Logger.getLogger(GitHubRateLimiter.class);
+
+    private static final long YIELD_MILLIS = 100;
+    // the rate limit of GitHub is replenished every hour
+    private static final long RATE_LIMIT_WINDOW_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<Long, Budget> budgets = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> backgroundInstallation = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface BackgroundWork {
+        void run() throws IOException;
+    }
+
+    /**
+     * Thrown to background work once no more than the reserved requests of its installation remain.
+     */
+    public static class BudgetExhaustedException extends IOException {
+
+        private final long installationId;
+        private final long resetMillis;
+
+        BudgetExhaustedException(long installationId, int remaining, long resetMillis) {
+            super("Only %d GitHub requests remaining for the installation %d until %s".formatted(remaining,
+                    installationId, new Date(resetMillis)));
+            this.installationId = installationId;
+            this.resetMillis = resetMillis;
+        }
+
+        public long getInstallationId() {
+            return installationId;
+        }
+
+        /**
+         * @return the time the rate limit of the installation is reset, in milliseconds since the epoch
+         */
+        public long getResetMillis() {
+            return resetMillis;
+        }
+    }
+
+    /**
+     * Runs background work of the installation on the current thread. Every GitHub request the work sends
+     * waits in {@link #acquireBackground(long, GitHub)} first and the budget is updated from its response.
+     *
+     * @throws BudgetExhaustedException if the budget of the installation is exhausted before the work starts
+     *         or while it runs
+     */
+    public void background(long installationId, BackgroundWork work) throws IOException {
+        budget(installationId).checkExhausted(installationId, wildFlyBotConfig.rateLimitReserve());
+        Long outer = backgroundInstallation.get();
+        backgroundInstallation.set(installationId);
+        try {
+            work.run();
+        } finally {
+            if (outer == null) {
+                backgroundInstallation.remove();
+            } else {
+                backgroundInstallation.set(outer);
+            }
+        }
+    }
+
+    /**
+     * @return connector acquiring the budget for the requests sent by background work, see
+     *         {@link #background(long, BackgroundWork)}
+     */
+    public GitHubConnector connector(GitHubConnector delegate) {
+        return request -> {
+            Long installationId = backgroundInstallation.get();
+            if (installationId == null) {
+                return delegate.send(request);
+            }
+            acquireBackground(installationId, null);
+            GitHubConnectorResponse response = delegate.send(request);
+            update(installationId, response);
+            return response;
+        };
+    }
+
+    /**
+     * @return the exhausted budget failing the background work, possibly wrapped by the GitHub client,
+     *         or null if the work failed for another reason
+     */
+    public static BudgetExhaustedException budgetExhausted(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BudgetExhaustedException budgetExhausted) {
+                return budgetExhausted;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Updates the budget of the installation from the rate limit of the last response received by the client.
+     */
+    public void update(long installationId, GitHub gitHub) {
+        GHRateLimit rateLimit = gitHub == null ? null : gitHub.lastRateLimit();
+        if (rateLimit == null || rateLimit.getCore() == null) {
+            return;
+        }
+        GHRateLimit.Record core = rateLimit.getCore();
+        budget(installationId).update(core.getRemaining(), core.getLimit(), core.getResetDate().getTime());
+    }
+
+    private void update(long installationId, GitHubConnectorResponse response) {
+        String remaining = response.header("X-RateLimit-Remaining");
+        String limit = response.header("X-RateLimit-Limit");
+        String reset = response.header("X-RateLimit-Reset");
+        if (remaining == null || limit == null || reset == null) {
+            return;
+        }
+        try {
+            budget(installationId).update(Integer.parseInt(remaining), Integer.parseInt(limit),
+                    TimeUnit.SECONDS.toMillis(Long.parseLong(reset)));
+        } catch (NumberFormatException e) {
+            LOG.debugf(e, "Unable to read the rate limit of the installation %d", installationId);
+        }
+    }
+
+    public void eventStarted(long installationId) {
+        budget(installationId).eventsInProgress.incrementAndGet();
+    }
+
+    public void eventCompleted(long installationId, GitHub gitHub) {
+        update(installationId, gitHub);
+        budget(installationId).eventsInProgress.decrementAndGet();
+    }
+
+    /**
+     * Waits until background work may send a request on behalf of the installation. The work waits while
+     * webhook events of the installation are processed, for at most {@link WildFlyBotConfig#rateLimitMaxYield()},
+     * and until the token bucket of the installation is refilled.
+     *
+     * @param gitHub client of the installation used by the background work, or null if the budget is updated
+     *        from the responses by the {@link #connector(GitHubConnector)}
+     * @throws BudgetExhaustedException if no more than the reserved requests remain until the rate limit is reset
+     */
+    public void acquireBackground(long installationId, GitHub gitHub) throws InterruptedIOException,
+            BudgetExhaustedException {
+        update(installationId, gitHub);
+        Budget budget = budget(installationId);
+        try {
+            long yieldUntil = System.currentTimeMillis() + wildFlyBotConfig.rateLimitMaxYield().toMillis();
+            while (budget.eventsInProgress.get() > 0 && System.currentTimeMillis() < yieldUntil) {
+                Thread.sleep(YIELD_MILLIS);
+            }
+
+            long waitMillis;
+            while ((waitMillis = budget.take(installationId, wildFlyBotConfig.rateLimitReserve(),
+                    wildFlyBotConfig.rateLimitBurst())) > 0) {
+                Thread.sleep(waitMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the GitHub rate limit");
+        }
+    }
+
+    /**
+     * @return the number of requests the installation can send before the rate limit is reset,
+     *         or -1 if no response was received for the installation yet
+     */
+    public int remaining(long installationId) {
+        Budget budget = budgets.get(installationId);
+        return budget == null ? -1 : budget.remaining;
+    }
+
+    private Budget budget(long installationId) {
+        return budgets.computeIfAbsent(installationId, id -> {
+            Budget budget = new Budget(wildFlyBotConfig.rateLimitBurst());
+            Gauge.builder("github.rate-limit.remaining", budget, b -> b.remaining)
+                    .tag("installation", String.valueOf(id))
+                    .description("The number of GitHub requests the installation can send before the rate limit is reset")
+                    .register(meterRegistry);
+            Gauge.builder("github.rate-limit.limit", budget, b -> b.limit)
+                    .tag("installation", String.valueOf(id))
+                    .description("The number of GitHub requests the installation can send per hour")
+                    .register(meterRegistry);
+            return budget;
+        });
+    }
+
+    private static final class Budget {
+
+        private volatile int remaining = -1;
+        private volatile int limit = -1;
+        private volatile long resetMillis;
+        private double tokens;
+        private long refilledAt = System.currentTimeMillis();
+        private final AtomicInteger eventsInProgress = new AtomicInteger();
+
+        Budget(int burst) {
+            tokens = burst;
+        }
+
+        synchronized void update(int remaining, int limit, long resetMillis) {
+            this.remaining = remaining;
+            this.limit = limit;
+            this.resetMillis = resetMillis;
+        }
+
+        synchronized void checkExhausted(long installationId, int reserve) throws BudgetExhaustedException {
+            if (System.currentTimeMillis() >= resetMillis) {
+                if (remaining >= 0 && remaining < limit) {
+                    remaining = limit;
+                }
+            } else if (remaining >= 0 && remaining <= reserve) {
+                throw new BudgetExhaustedException(installationId, remaining, resetMillis);
+            }
+        }
+
+        /**
+         * Takes a request from the budget and a token from the bucket.
+         *
+         * @return zero if the request may be sent, otherwise the time until the next token is available
+         */
+        synchronized long take(long installationId, int reserve, int burst) throws BudgetExhaustedException {
+            checkExhausted(installationId, reserve);
+            long now = System.currentTimeMillis();
+            if (limit > 0) {
+                double refillPerMilli = (double) limit / RATE_LIMIT_WINDOW_MILLIS;
+                tokens = Math.min(burst, tokens + (now - refilledAt) * refillPerMilli);
+                refilledAt = now;
+                if (tokens < 1) {
+                    return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMilli));
+                }
+                tokens--;
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+
+/**
+ * Traces every REST request sent by the GitHub clients. The span of a request is a child of the current
+ * span, usually the span of the processor or the check sending the request, so the requests dominating
+ * the processing of a webhook delivery can be found in its trace. The responses are recorded by
+ * the {@link DeliveryRecorder}, if the recording is enabled. Requests sent by background work wait for
+ * the rate limit budget of their installation in the {@link GitHubRateLimiter} before they are traced.
+ * The labels listed before are revalidated by the {@link LabelCache}.
+ * The connector is installed in the GitHub clients by {@link InstrumentedGitHubService}.
+ */
+@Singleton
+public class GitHubRequestTracing {
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    DeliveryRecorder deliveryRecorder;
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    @Inject
+    LabelCache labelCache;
+
+    /**
+     * @return connector sending the requests of the GitHub clients
+     */
+    public GitHubConnector connector() {
+        return rateLimiter.connector(labelCache.connector(
+                new TracingConnector(deliveryRecorder.connector(GitHubConnector.DEFAULT))));
+    }
+
+    private final class TracingConnector implements GitHubConnector {
+
+        private final GitHubConnector delegate;
+
+        private TracingConnector(GitHubConnector delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+            Span span = tracer.spanBuilder("GitHub " + request.method())
+                    .setSpanKind(SpanKind.CLIENT)
+                    .setAttribute("http.request.method", request.method())
+                    .setAttribute("url.full", request.url().toString())
+                    .startSpan();
+            try {
+                GitHubConnectorResponse response = delegate.send(request);
+                span.setAttribute("http.response.status_code", response.statusCode());
+                if (response.statusCode() >= 400) {
+                    span.setStatus(StatusCode.ERROR);
+                }
+                String remaining = response.header("X-RateLimit-Remaining");
+                if (remaining != null) {
+                    span.setAttribute("github.rate_limit.remaining", remaining);
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
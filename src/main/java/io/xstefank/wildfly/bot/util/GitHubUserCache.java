@@ -0,0 +1,42 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+
+import java.io.IOException;
+
+/**
+ * Caches {@link GHUser}s by their login across events. Only successful lookups are cached, so a user
+ * who could not be found is looked up again on the next event.
+ */
+@ApplicationScoped
+public class GitHubUserCache {
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    private LruCache<String, GHUser> users;
+
+    @PostConstruct
+    void construct() {
+        users = new LruCache<>(wildFlyBotConfig.userCacheSize());
+    }
+
+    /**
+     * @return the user with the login or null if the user was not found
+     */
+    public GHUser getUser(GitHub gitHub, String login) throws IOException {
+        GHUser user = users.get(login);
+        if (user == null) {
+            user = gitHub.getUser(login);
+            if (user != null) {
+                users.put(login, user);
+            }
+        }
+        return user;
+    }
+}
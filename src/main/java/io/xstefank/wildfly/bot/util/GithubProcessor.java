@@ -2,36 +2,41 @@ package io.xstefank.wildfly.bot.util;
 
 import io.quarkus.mailer.Mail;
 import io.quarkus.mailer.Mailer;
+import io.smallrye.graphql.client.Response;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
 import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
 import io.xstefank.wildfly.bot.model.WildFlyConfigFile;
+import io.xstefank.wildfly.bot.util.BotCommentIndex.BotComment;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.Dependent;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import org.kohsuke.github.GHCheckRun;
+import org.kohsuke.github.GHCheckRunBuilder;
 import org.kohsuke.github.GHCommitState;
 import org.kohsuke.github.GHIssueComment;
-import org.kohsuke.github.GHLabel;
 import org.kohsuke.github.GHPerson;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHUser;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.HttpException;
-import org.kohsuke.github.PagedIterable;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Dependent
 public class GithubProcessor {
@@ -48,6 +53,22 @@ public class GithubProcessor {
             ---
             This is generated message, please do not respond.""";
 
+    private static final String UPDATE_COMMENT_MUTATION = """
+            mutation UpdateComment($id: ID!, $body: String!) {
+              updateIssueComment(input: {id: $id, body: $body}) {
+                clientMutationId
+              }
+            }""";
+
+    private static final String DELETE_COMMENT_MUTATION = """
+            mutation DeleteComment($id: ID!) {
+              deleteIssueComment(input: {id: $id}) {
+                clientMutationId
+              }
+            }""";
+
+    private static final String CHECK_RUN_CONTEXT_PREFIX = "check-run:";
+
     private static final Logger LOG_DELEGATE = Logger.getLogger(GithubProcessor.class);
     public final PullRequestLogger LOG = new PullRequestLogger(LOG_DELEGATE);
     private Pattern SKIP_FORMAT_COMMAND;
@@ -58,6 +79,21 @@ public class GithubProcessor {
     @Inject
     Mailer mailer;
 
+    @Inject
+    PullRequestSnapshotProvider snapshotProvider;
+
+    @Inject
+    LabelCache labelCache;
+
+    @Inject
+    GitHubUserCache userCache;
+
+    @Inject
+    BotCommentIndex botCommentIndex;
+
+    @Inject
+    CommitStatusCache commitStatusCache;
+
     @ConfigProperty(name = "quarkus.mailer.username")
     Optional<String> username;
 
@@ -68,31 +104,107 @@ public class GithubProcessor {
     }
 
     public void commitStatusSuccess(GHPullRequest pullRequest, String checkName, String description) throws IOException {
+        commitStatusSuccess(pullRequest, checkName, description, null);
+    }
+
+    /**
+     * @param details markdown with the results of the check, published only in the check run mode
+     */
+    public void commitStatusSuccess(GHPullRequest pullRequest, String checkName, String description, String details)
+            throws IOException {
         String sha = pullRequest.getHead().getSha();
 
+        if (isCheckRunMode()) {
+            checkRun(pullRequest, sha, checkName, GHCommitState.SUCCESS, description, details);
+            return;
+        }
+
         if (wildFlyBotConfig.isDryRun()) {
             LOG.infof("Pull request #%d - Commit status success {%s, %s, %s}", pullRequest.getNumber(), sha, checkName,
                     description);
         } else {
-            pullRequest.getRepository().createCommitStatus(sha, GHCommitState.SUCCESS, "", description, checkName);
+            createCommitStatus(pullRequest, sha, GHCommitState.SUCCESS, description, checkName);
         }
     }
 
     public void commitStatusError(GHPullRequest pullRequest, String checkName, String description) throws IOException {
+        commitStatusError(pullRequest, checkName, description, null);
+    }
+
+    /**
+     * @param details markdown with the results of the check, published only in the check run mode
+     */
+    public void commitStatusError(GHPullRequest pullRequest, String checkName, String description, String details)
+            throws IOException {
         String sha = pullRequest.getHead().getSha();
 
+        if (isCheckRunMode()) {
+            checkRun(pullRequest, sha, checkName, GHCommitState.ERROR, description, details);
+            return;
+        }
+
         if (wildFlyBotConfig.isDryRun()) {
             LOG.infof("Pull request #%d - Commit status failure {%s, %s, %s}", pullRequest.getNumber(), sha, checkName,
                     description);
         } else {
-            pullRequest.getRepository().createCommitStatus(sha, GHCommitState.ERROR, "", description, checkName);
+            createCommitStatus(pullRequest, sha, GHCommitState.ERROR, description, checkName);
         }
     }
 
-    public void processNotifies(GHPullRequest pullRequest, GitHub gitHub, Set<String> ccMentions, Set<String> reviewers,
+    public boolean isCheckRunMode() {
+        return wildFlyBotConfig.reportMode() == WildFlyBotConfig.ReportMode.CHECK_RUN;
+    }
+
+    /**
+     * Publishes a completed check run for the commit. A new check run replaces the previous check run
+     * with the same name in the pull request, so the check run is never updated.
+     */
+    private void checkRun(GHPullRequest pullRequest, String sha, String checkName, GHCommitState state,
+            String description, String details) throws IOException {
+        if (wildFlyBotConfig.isDryRun()) {
+            LOG.infof("Pull request #%d - Check run {%s, %s, %s, %s}", pullRequest.getNumber(), sha, checkName, state,
+                    description);
+            return;
+        }
+
+        GHRepository repository = pullRequest.getRepository();
+        // check runs are remembered apart from the commit statuses of the same name
+        String context = CHECK_RUN_CONTEXT_PREFIX + checkName;
+        String summary = details == null ? description : description + "\n\n" + details;
+        if (commitStatusCache.isPosted(repository, sha, context, state, summary)) {
+            LOG.debugf("Check run %s of %s is already %s with the summary \"%s\"", checkName, sha, state, summary);
+            return;
+        }
+
+        GHCheckRunBuilder.Output output = new GHCheckRunBuilder.Output(description, summary);
+        repository.createCheckRun(checkName, sha)
+                .withStatus(GHCheckRun.Status.COMPLETED)
+                .withConclusion(state == GHCommitState.SUCCESS
+                        ? GHCheckRun.Conclusion.SUCCESS
+                        : GHCheckRun.Conclusion.FAILURE)
+                .withCompletedAt(new Date())
+                .add(output)
+                .create();
+        commitStatusCache.posted(repository, sha, context, state, summary);
+    }
+
+    private void createCommitStatus(GHPullRequest pullRequest, String sha, GHCommitState state, String description,
+            String checkName) throws IOException {
+        GHRepository repository = pullRequest.getRepository();
+        if (commitStatusCache.isPosted(repository, sha, checkName, state, description)) {
+            LOG.debugf("Commit status %s of %s is already %s with the description \"%s\"", checkName, sha, state,
+                    description);
+            return;
+        }
+        repository.createCommitStatus(sha, state, "", description, checkName);
+        commitStatusCache.posted(repository, sha, checkName, state, description);
+    }
+
+    public void processNotifies(GHPullRequest pullRequest, GitHub gitHub, DynamicGraphQLClient gitHubGraphQL,
+            Set<String> ccMentions, Set<String> reviewers,
             List<String> emails) throws IOException {
         if (ccMentions.isEmpty() && reviewers.isEmpty()) {
-            updateCCMentions(pullRequest, Collections.emptySet());
+            updateCCMentions(pullRequest, gitHubGraphQL, Collections.emptySet());
             return;
         }
 
@@ -105,7 +217,7 @@ public class GithubProcessor {
 
         reviewers.removeAll(currentReviewers);
 
-        updateCCMentions(pullRequest, ccMentions);
+        updateCCMentions(pullRequest, gitHubGraphQL, ccMentions);
 
         if (!reviewers.isEmpty()) {
             if (wildFlyBotConfig.isDryRun()) {
@@ -113,18 +225,23 @@ public class GithubProcessor {
                         String.join(",", reviewers));
             } else {
                 List<String> failedReviewers = new ArrayList<>();
+                List<GHUser> requestedReviewers = new ArrayList<>();
                 for (String requestedReviewer : reviewers) {
                     try {
-                        GHUser ghUser = gitHub.getUser(requestedReviewer);
-                        pullRequest.requestReviewers(List.of(ghUser));
+                        GHUser ghUser = userCache.getUser(gitHub, requestedReviewer);
+                        if (ghUser != null) {
+                            requestedReviewers.add(ghUser);
+                        } else {
+                            failedReviewers.add(requestedReviewer);
+                        }
                     } catch (HttpException | RuntimeException e) {
-                        LOG.warnf(
-                                "The request of getting GHUser or requesting the user as Pull Request reviewer has failed due to %s",
-                                e.getMessage());
+                        LOG.warnf("The request of getting GHUser has failed due to %s", e.getMessage());
                         failedReviewers.add(requestedReviewer);
                     }
                 }
 
+                requestReviewers(pullRequest, requestedReviewers, failedReviewers);
+
                 if (!failedReviewers.isEmpty()) {
                     LOG.warnf("Bot can not request PR review from the following people: %s", failedReviewers);
                     GHRepository repository = pullRequest.getRepository();
@@ -138,43 +255,62 @@ public class GithubProcessor {
         }
     }
 
-    private void updateCCMentions(GHPullRequest pullRequest, Set<String> newMentions) throws IOException {
-        for (GHIssueComment comment : pullRequest.listComments()) {
-            if (comment.getUser().getLogin().equals(wildFlyBotConfig.githubName())
-                    && comment.getBody().startsWith("/cc")) {
-                if (newMentions.isEmpty()) {
+    /**
+     * Requests review from all the users in a single request. If the request is rejected, the users are split
+     * in halves, which are requested separately, until the users who can not be requested are found.
+     */
+    private void requestReviewers(GHPullRequest pullRequest, List<GHUser> users, List<String> failedReviewers)
+            throws IOException {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            pullRequest.requestReviewers(users);
+        } catch (HttpException | RuntimeException e) {
+            if (users.size() == 1) {
+                LOG.warnf("The request of requesting the user as Pull Request reviewer has failed due to %s",
+                        e.getMessage());
+                failedReviewers.add(users.get(0).getLogin());
+            } else {
+                int half = users.size() / 2;
+                requestReviewers(pullRequest, users.subList(0, half), failedReviewers);
+                requestReviewers(pullRequest, users.subList(half, users.size()), failedReviewers);
+            }
+        }
+    }
+
+    private void updateCCMentions(GHPullRequest pullRequest, DynamicGraphQLClient gitHubGraphQL, Set<String> newMentions)
+            throws IOException {
+        Optional<BotComment> comment = findBotComment(pullRequest, BotCommentIndex.Kind.CC);
+        if (comment.isPresent()) {
+            if (newMentions.isEmpty()) {
+                if (wildFlyBotConfig.isDryRun()) {
+                    LOG.infof("Pull request #%d - Delete comment %s", pullRequest.getNumber(), comment.get().body());
+                } else {
+                    deleteBotComment(pullRequest, gitHubGraphQL, BotCommentIndex.Kind.CC, comment.get());
+                }
+            } else {
+                List<String> commentMentions = new ArrayList<>(comment.get().mentions());
+
+                if (!new HashSet<>(commentMentions).containsAll(newMentions) ||
+                        commentMentions.size() != newMentions.size()) {
+
+                    // We preserve order of already mentioned people and append new people
+                    commentMentions.removeIf(s -> !newMentions.contains(s));
+                    newMentions.removeAll(commentMentions);
+                    commentMentions.addAll(newMentions);
+
+                    String updatedBody = "/cc @" + String.join(", @", commentMentions);
                     if (wildFlyBotConfig.isDryRun()) {
-                        LOG.infof("Pull request #%d - Delete comment %s", pullRequest.getNumber(), comment);
+                        LOG.infof("Pull request %d - Update comment %s to %s", pullRequest.getNumber(), comment.get().body(),
+                                updatedBody);
                     } else {
-                        comment.delete();
+                        updateBotComment(pullRequest, gitHubGraphQL, BotCommentIndex.Kind.CC, comment.get(), updatedBody);
                     }
-                } else {
-                    List<String> commentMentions = Arrays.stream(comment.getBody().split(" @"))
-                            .skip(1)
-                            .map(s -> s.endsWith(",")
-                                    ? s.substring(0, s.length() - 1)
-                                    : s)
-                            .collect(Collectors.toList());
-
-                    if (!new HashSet<>(commentMentions).containsAll(newMentions) ||
-                            commentMentions.size() != newMentions.size()) {
-
-                        // We preserve order of already mentioned people and append new people
-                        commentMentions.removeIf(s -> !newMentions.contains(s));
-                        newMentions.removeAll(commentMentions);
-                        commentMentions.addAll(newMentions);
-
-                        String updatedBody = "/cc @" + String.join(", @", commentMentions);
-                        if (wildFlyBotConfig.isDryRun()) {
-                            LOG.infof("Pull request %d - Update comment %s to %s", pullRequest.getNumber(), comment.getBody(),
-                                    updatedBody);
-                        } else {
-                            comment.update(updatedBody);
-                        }
-                    } // else nothing to update, as we have all mentions in the comment
-                }
-                return;
+                } // else nothing to update, as we have all mentions in the comment
             }
+            return;
         }
 
         if (newMentions.isEmpty()) {
@@ -185,18 +321,90 @@ public class GithubProcessor {
         if (wildFlyBotConfig.isDryRun()) {
             LOG.infof("Pull request %d - Add new comment %s", pullRequest.getNumber(), updatedBody);
         } else {
-            pullRequest.comment(updatedBody);
+            createBotComment(pullRequest, BotCommentIndex.Kind.CC, updatedBody);
+        }
+    }
+
+    /**
+     * Finds the comment of the bot of the given kind. The comments are listed from GitHub only if the bot
+     * comments of the pull request are not indexed.
+     */
+    public Optional<BotComment> findBotComment(GHPullRequest pullRequest, BotCommentIndex.Kind kind) throws IOException {
+        return botCommentIndex.find(snapshotProvider.get(pullRequest), kind);
+    }
+
+    public void createBotComment(GHPullRequest pullRequest, BotCommentIndex.Kind kind, String body) throws IOException {
+        botCommentIndex.created(pullRequest, kind, pullRequest.comment(body));
+    }
+
+    /**
+     * Updates the comment of the bot. Comments listed for the current event are updated directly, indexed
+     * comments are updated by their node id. If the indexed comment is outdated, the comments are listed
+     * again and the current comment is updated or a new one is created.
+     */
+    public void updateBotComment(GHPullRequest pullRequest, DynamicGraphQLClient gitHubGraphQL, BotCommentIndex.Kind kind,
+            BotComment comment, String body) throws IOException {
+        Optional<GHIssueComment> listedComment = snapshotProvider.get(pullRequest).listedComment(comment.id());
+        if (listedComment.isPresent()) {
+            listedComment.get().update(body);
+        } else if (!mutate(gitHubGraphQL, UPDATE_COMMENT_MUTATION, Map.of("id", comment.nodeId(), "body", body))) {
+            botCommentIndex.invalidate(pullRequest);
+            Optional<BotComment> currentComment = findBotComment(pullRequest, kind);
+            if (currentComment.isPresent()) {
+                updateBotComment(pullRequest, gitHubGraphQL, kind, currentComment.get(), body);
+            } else {
+                createBotComment(pullRequest, kind, body);
+            }
+            return;
+        }
+        botCommentIndex.updated(pullRequest, kind, comment, body);
+    }
+
+    /**
+     * Deletes the comment of the bot the same way as {@link #updateBotComment} updates it.
+     */
+    public void deleteBotComment(GHPullRequest pullRequest, DynamicGraphQLClient gitHubGraphQL, BotCommentIndex.Kind kind,
+            BotComment comment) throws IOException {
+        Optional<GHIssueComment> listedComment = snapshotProvider.get(pullRequest).listedComment(comment.id());
+        if (listedComment.isPresent()) {
+            listedComment.get().delete();
+        } else if (!mutate(gitHubGraphQL, DELETE_COMMENT_MUTATION, Map.of("id", comment.nodeId()))) {
+            botCommentIndex.invalidate(pullRequest);
+            Optional<BotComment> currentComment = findBotComment(pullRequest, kind);
+            if (currentComment.isPresent()) {
+                deleteBotComment(pullRequest, gitHubGraphQL, kind, currentComment.get());
+            }
+            return;
+        }
+        botCommentIndex.deleted(pullRequest, kind);
+    }
+
+    /**
+     * @return false if the mutation was not applied
+     */
+    private boolean mutate(DynamicGraphQLClient gitHubGraphQL, String mutation, Map<String, Object> variables)
+            throws InterruptedIOException {
+        try {
+            Response response = gitHubGraphQL.executeSync(mutation, variables);
+            if (response == null || response.hasError()) {
+                LOG.debugf("GraphQL mutation of the bot comment failed: %s",
+                        response == null ? "no response" : response.getErrors());
+                return false;
+            }
+            return true;
+        } catch (ExecutionException e) {
+            LOG.debugf(e, "GraphQL mutation of the bot comment failed");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while updating the bot comment");
         }
     }
 
     public void createLabelsIfMissing(GHRepository repository, Collection<String> labels) throws IOException {
-        PagedIterable<GHLabel> repoLabels = repository.listLabels();
-        List<String> inRepoLabels = repoLabels.toList().stream()
-                .map(GHLabel::getName)
-                .filter(labels::contains)
-                .toList();
+        Set<String> repoLabels = labelCache.getLabels(repository);
         List<String> missingLabels = labels.stream()
-                .filter(s -> !inRepoLabels.contains(s))
+                .filter(s -> !repoLabels.contains(s))
                 .toList();
 
         if (!missingLabels.isEmpty()) {
@@ -204,7 +412,14 @@ public class GithubProcessor {
                     missingLabels);
             for (String name : missingLabels) {
                 String color = String.format("%06x", new Random().nextInt(0xffffff + 1));
-                repository.createLabel(name, color);
+                try {
+                    repository.createLabel(name, color);
+                } catch (IOException e) {
+                    // the cached labels might be outdated
+                    labelCache.invalidate(repository.getFullName());
+                    throw e;
+                }
+                labelCache.labelCreated(repository, name);
             }
         }
     }
@@ -0,0 +1,92 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.quarkiverse.githubapp.runtime.config.CheckedConfigProvider;
+import io.quarkiverse.githubapp.runtime.github.GitHubService;
+import io.quarkiverse.githubapp.runtime.signing.JwtTokenCreator;
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.authorization.AppInstallationAuthorizationProvider;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the REST clients of the app and of its installations with the connector of {@link GitHubRequestTracing},
+ * as quarkus-github-app offers no way to customize the clients it creates. The GraphQL clients are created by
+ * {@link GitHubService}. A single client is kept per installation, it renews its installation token before the token
+ * expires. The alternative is disabled by the build property
+ * {@code wildfly-bot-build.instrument-github-clients=false}, so the tests can mock {@link GitHubService}.
+ */
+@IfBuildProperty(name = "wildfly-bot-build.instrument-github-clients", stringValue = "true", enableIfMissing = true)
+@Alternative
+@Priority(1)
+@ApplicationScoped
+public class InstrumentedGitHubService extends GitHubService {
+
+    // the same validity as the JWT created by GitHubService
+    private static final long JWT_TTL_SECONDS = 540;
+
+    private final CheckedConfigProvider checkedConfigProvider;
+    private final JwtTokenCreator jwtTokenCreator;
+    private final GitHubRequestTracing requestTracing;
+    private final Map<Long, GitHub> installationClients = new ConcurrentHashMap<>();
+
+    @Inject
+    public InstrumentedGitHubService(CheckedConfigProvider checkedConfigProvider, JwtTokenCreator jwtTokenCreator,
+            GitHubRequestTracing requestTracing) {
+        super(checkedConfigProvider, jwtTokenCreator);
+        this.checkedConfigProvider = checkedConfigProvider;
+        this.jwtTokenCreator = jwtTokenCreator;
+        this.requestTracing = requestTracing;
+    }
+
+    // required by the client proxy, as GitHubService has no constructor without parameters
+    InstrumentedGitHubService() {
+        this(null, null, null);
+    }
+
+    @Override
+    public GitHub getInstallationClient(long installationId) {
+        return installationClients.computeIfAbsent(installationId, id -> {
+            try {
+                return new GitHubBuilder()
+                        .withEndpoint(checkedConfigProvider.restApiEndpoint())
+                        .withConnector(requestTracing.connector())
+                        .withAuthorizationProvider(new AppInstallationAuthorizationProvider(
+                                app -> app.getInstallationById(id), () -> "Bearer " + createJwtToken()))
+                        .build();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to create the GitHub client for the installation " + id, e);
+            }
+        });
+    }
+
+    @Override
+    public GitHub getApplicationClient() {
+        try {
+            return new GitHubBuilder()
+                    .withEndpoint(checkedConfigProvider.restApiEndpoint())
+                    .withConnector(requestTracing.connector())
+                    .withJwtToken(createJwtToken())
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to create the GitHub application client", e);
+        }
+    }
+
+    private String createJwtToken() throws IOException {
+        try {
+            return jwtTokenCreator.createJwtToken(checkedConfigProvider.appId(), checkedConfigProvider.privateKey(),
+                    JWT_TTL_SECONDS);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unable to generate the JWT token", e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.xstefank.wildfly.bot.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton finding whole-word occurrences of many literal keywords in a single scan of the text.
+ * The keywords are matched the same way as {@link Patterns#compileWord} matches a keyword without any regex
+ * syntax: ignoring the case of ASCII letters and only if the occurrence starts and ends at a word boundary.
+ */
+public class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    // transitions of each state sorted by the character
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    // keywords ending in each state, including the keywords ending in its failure states
+    private final int[][] outputs;
+    private final int[] lengths;
+
+    /**
+     * @param keywords non-empty ASCII keywords, see {@link #isLiteral(String)}
+     */
+    public KeywordAutomaton(List<String> keywords) {
+        List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> keywordOutputs = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        keywordOutputs.add(new ArrayList<>());
+
+        lengths = new int[keywords.size()];
+        for (int keyword = 0; keyword < keywords.size(); keyword++) {
+            String word = keywords.get(keyword);
+            lengths[keyword] = word.length();
+            int state = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                char c = fold(word.charAt(i));
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(c, next);
+                    transitions.add(new TreeMap<>());
+                    keywordOutputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            keywordOutputs.get(state).add(keyword);
+        }
+
+        int states = transitions.size();
+        labels = new char[states][];
+        targets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            TreeMap<Character, Integer> stateTransitions = transitions.get(state);
+            labels[state] = new char[stateTransitions.size()];
+            targets[state] = new int[stateTransitions.size()];
+            int i = 0;
+            for (var transition : stateTransitions.entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        // failure links are computed breadth first, so the failure state of a state is always computed before it
+        failures = new int[states];
+        outputs = new int[states][];
+        outputs[ROOT] = toArray(keywordOutputs.get(ROOT));
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> stateOutputs = keywordOutputs.get(state);
+            stateOutputs.addAll(Arrays.stream(outputs[failures[state]]).boxed().toList());
+            outputs[state] = toArray(stateOutputs);
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int failure = failures[state];
+                while (failure != ROOT && next(failure, labels[state][i]) < 0) {
+                    failure = failures[failure];
+                }
+                int next = next(failure, labels[state][i]);
+                failures[child] = next < 0 || next == child ? ROOT : next;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return true if the keyword can be matched by the automaton instead of a regex, i.e. it is not blank
+     *         and it consists only of ASCII characters without any regex syntax
+     */
+    public static boolean isLiteral(String keyword) {
+        if (Strings.isBlank(keyword)) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c > 0x7f || "\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans the text once and reports the index of every keyword found in the text as a whole word.
+     * A keyword found several times is reported several times.
+     */
+    public void match(String text, IntConsumer matchedKeywords) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next = next(state, c);
+            while (next < 0 && state != ROOT) {
+                state = failures[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int keyword : outputs[state]) {
+                int start = i + 1 - lengths[keyword];
+                if (isBoundary(text, start) && isBoundary(text, i + 1)) {
+                    matchedKeywords.accept(keyword);
+                }
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i < 0 ? -1 : targets[state][i];
+    }
+
+    /**
+     * @return true if the index is a word boundary as defined by {@code \b} of {@link java.util.regex.Pattern}
+     */
+    private static boolean isBoundary(String text, int index) {
+        boolean wordBefore = index > 0 && isWord(text.codePointBefore(index));
+        boolean wordAfter = index < text.length() && isWord(text.codePointAt(index));
+        return wordBefore != wordAfter;
+    }
+
+    private static boolean isWord(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+
+    /**
+     * Folds ASCII letters only, as {@link java.util.regex.Pattern#CASE_INSENSITIVE} does without
+     * {@link java.util.regex.Pattern#UNICODE_CASE}.
+     */
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,250 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Caches names of the labels of repositories, so the labels are not listed from GitHub on every event.
+ * Cached labels are listed again once they are older than {@link WildFlyBotConfig#labelCacheTtl()},
+ * updated when the bot creates a label and invalidated when a label webhook event is received.
+ * The pages of the labels listed before are revalidated by the {@link #connector(GitHubConnector)} with
+ * their ETag, so listing unchanged labels again is answered by {@code 304 Not Modified}, which does not
+ * count against the rate limit of the installation.
+ */
+@ApplicationScoped
+public class LabelCache {
+
+    private static final Logger LOG = Logger.getLogger(LabelCache.class);
+    private static final Pattern LABELS_PATH = Pattern.compile("/repos/[^/]+/[^/]+/labels");
+    private static final int MAX_VALIDATED_PAGES = 1000;
+
+    private final Map<String, CachedLabels> cache = new ConcurrentHashMap<>();
+    private final LruCache<String, ValidatedPage> validatedPages = new LruCache<>(MAX_VALIDATED_PAGES);
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter notModified;
+
+    @PostConstruct
+    void construct() {
+        hits = Counter.builder("cache.gets").tag("cache", "labels").tag("result", "hit")
+                .description("The number of times repository labels were found in the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "labels").tag("result", "miss")
+                .description("The number of times repository labels were listed from GitHub")
+                .register(meterRegistry);
+        notModified = Counter.builder("cache.revalidations").tag("cache", "labels").tag("result", "not-modified")
+                .description("The number of times listed repository labels were not modified since they were listed before")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("cache.size", List.of(Tag.of("cache", "labels")), cache);
+    }
+
+    /**
+     * @return connector sending the requests listing the labels of a repository with the ETag of the page
+     *         listed before, if any, and answering them with the page listed before if it was not modified
+     */
+    public GitHubConnector connector(GitHubConnector delegate) {
+        return request -> {
+            if (!"GET".equals(request.method()) || !LABELS_PATH.matcher(request.url().getPath()).matches()) {
+                return delegate.send(request);
+            }
+            String url = request.url().toString();
+            ValidatedPage page = validatedPages.get(url);
+            GitHubConnectorResponse response = delegate.send(page == null ? request
+                    : new ConditionalRequest(request,
+                            page.etag()));
+            if (page != null && response.statusCode() == 304) {
+                notModified.increment();
+                response.close();
+                return new ValidatedResponse(request, page, response);
+            }
+            if (response.statusCode() != 200 || response.header("ETag") == null) {
+                return response;
+            }
+            byte[] body;
+            try (response) {
+                body = response.bodyStream().readAllBytes();
+            }
+            ValidatedPage validated = new ValidatedPage(response.header("ETag"), headers(response.allHeaders(), null),
+                    body);
+            validatedPages.put(url, validated);
+            return new ValidatedResponse(request, validated, response);
+        };
+    }
+
+    /**
+     * @return names of all labels in the repository
+     */
+    public Set<String> getLabels(GHRepository repository) throws IOException {
+        Duration ttl = wildFlyBotConfig.labelCacheTtl();
+        String key = repository.getFullName();
+
+        CachedLabels cachedLabels = key == null ? null : cache.get(key);
+        if (cachedLabels != null && !cachedLabels.isExpired(ttl)) {
+            hits.increment();
+            return Collections.unmodifiableSet(cachedLabels.names);
+        }
+
+        misses.increment();
+        Set<String> names = repository.listLabels()
+                .toList()
+                .stream()
+                .map(GHLabel::getName)
+                .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+        if (key != null && !ttl.isZero() && !ttl.isNegative()) {
+            cache.put(key, new CachedLabels(names, System.nanoTime()));
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Adds the label created by the bot to the cached labels of the repository.
+     */
+    public void labelCreated(GHRepository repository, String name) {
+        String key = repository.getFullName();
+        CachedLabels cachedLabels = key == null ? null : cache.get(key);
+        if (cachedLabels != null) {
+            cachedLabels.names.add(name);
+        }
+    }
+
+    public void invalidate(String repositoryFullName) {
+        if (repositoryFullName != null && cache.remove(repositoryFullName) != null) {
+            LOG.debugf("Cached labels of the repository %s were invalidated", repositoryFullName);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * @return the headers without the encoding of the body, which is decoded already, overridden by the headers
+     *         of the response revalidating them, if any
+     */
+    private static Map<String, List<String>> headers(Map<String, List<String>> headers,
+            Map<String, List<String>> revalidation) {
+        Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> {
+            if (name != null && !name.equalsIgnoreCase("Content-Encoding")) {
+                merged.put(name, values);
+            }
+        });
+        if (revalidation != null) {
+            revalidation.forEach((name, values) -> {
+                if (name != null && !name.regionMatches(true, 0, "Content-", 0, "Content-".length())) {
+                    merged.put(name, values);
+                }
+            });
+        }
+        return merged;
+    }
+
+    private record ValidatedPage(String etag, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * Request of the delegate sent with the ETag of the page listed before.
+     */
+    private record ConditionalRequest(GitHubConnectorRequest request, String etag) implements GitHubConnectorRequest {
+
+        @Override
+        public String method() {
+            return request.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(request.allHeaders());
+            headers.put("If-None-Match", List.of(etag));
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            return "If-None-Match".equalsIgnoreCase(name) ? etag : request.header(name);
+        }
+
+        @Override
+        public String contentType() {
+            return request.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return request.body();
+        }
+
+        @Override
+        public URL url() {
+            return request.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return request.hasBody();
+        }
+    }
+
+    /**
+     * Response with the body of the validated page, it carries the rate limit of the response revalidating it.
+     */
+    private static final class ValidatedResponse extends GitHubConnectorResponse {
+
+        private final byte[] body;
+
+        private ValidatedResponse(GitHubConnectorRequest request, ValidatedPage page, GitHubConnectorResponse response) {
+            super(request, 200, headers(page.headers(), response.statusCode() == 304 ? response.allHeaders() : null));
+            this.body = page.body();
+        }
+
+        @Override
+        public InputStream bodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            // the response of the delegate is closed once its body is read
+        }
+    }
+
+    private record CachedLabels(Set<String> names, long listedAt) {
+
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - listedAt >= ttl.toNanos();
+        }
+    }
+}
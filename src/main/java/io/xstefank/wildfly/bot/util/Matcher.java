@@ -1,49 +1,77 @@
 package io.xstefank.wildfly.bot.util;
 
-import io.xstefank.wildfly.bot.model.WildFlyConfigFile.WildFlyRule;
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHPullRequestFileDetail;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 public class Matcher {
 
-    public static boolean notifyComment(GHPullRequest pullRequest, WildFlyRule rule) {
-        if (Strings.isNotBlank(rule.title)) {
-            if (Patterns.find(regexWordWrap(rule.title), pullRequest.getTitle())) {
-                return true;
-            }
+    public static boolean notifyComment(GHPullRequest pullRequest, CompiledWildFlyRule rule) {
+        if (Patterns.find(rule.title, pullRequest.getTitle())) {
+            return true;
         }
 
-        if (Strings.isNotBlank(rule.body)) {
-            if (Patterns.find(regexWordWrap(rule.body), pullRequest.getBody())) {
-                return true;
-            }
+        if (Patterns.find(rule.body, pullRequest.getBody())) {
+            return true;
         }
 
-        if (Strings.isNotBlank(rule.titleBody)) {
-            if (Patterns.find(regexWordWrap(rule.titleBody), pullRequest.getTitle()) ||
-                    Patterns.find(regexWordWrap(rule.titleBody), pullRequest.getBody())) {
-                return true;
-            }
+        if (Patterns.find(rule.titleBody, pullRequest.getTitle()) ||
+                Patterns.find(rule.titleBody, pullRequest.getBody())) {
+            return true;
         }
 
         return false;
     }
 
-    public static boolean notifyRequestReview(GHPullRequest pullRequest, WildFlyRule rule) {
-        if (!rule.directories.isEmpty()) {
-            for (GHPullRequestFileDetail changedFile : pullRequest.listFiles()) {
-                for (String directory : rule.directories) {
-                    if (changedFile.getFilename().startsWith(directory.endsWith("/") ? directory : directory + "/")) {
-                        return true;
-                    }
-                }
-            }
-        }
+    /**
+     * Matches the title and the body of the pull request against the title, body and titleBody of all rules.
+     * Each of them is scanned once for all rules using plain words.
+     *
+     * @return rules matched the same way as by {@link #notifyComment}
+     */
+    public static Set<CompiledWildFlyRule> matchText(GHPullRequest pullRequest, RuleTextIndex ruleTextIndex) {
+        return ruleTextIndex.match(pullRequest.getTitle(), pullRequest.getBody());
+    }
 
-        return false;
+    /**
+     * Matches the files changed by the pull request against the directories of all rules. The changed files
+     * are listed only once and only if at least one rule specifies a directory.
+     *
+     * @return rules with at least one directory containing a changed file
+     */
+    public static Set<CompiledWildFlyRule> matchDirectories(PullRequestSnapshot snapshot, DirectoryIndex directoryIndex) {
+        return matchDirectories(snapshot, directoryIndex, null);
     }
 
-    private static String regexWordWrap(String word) {
-        return "\\b(" + word + ")\\b";
+    /**
+     * Matches the files changed by the pull request against the directories of the rules. The changed files
+     * are listed only if at least one of the rules specifies a directory and the matching stops once all
+     * the rules are matched.
+     *
+     * @param rules rules whose directories are needed, or null for all rules
+     * @return rules with at least one directory containing a changed file, possibly including other rules
+     *         than the requested ones
+     */
+    public static Set<CompiledWildFlyRule> matchDirectories(PullRequestSnapshot snapshot, DirectoryIndex directoryIndex,
+            Set<CompiledWildFlyRule> rules) {
+        Set<CompiledWildFlyRule> matchedRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (directoryIndex.isEmpty() || (rules != null && rules.isEmpty())) {
+            return matchedRules;
+        }
+
+        for (GHPullRequestFileDetail changedFile : snapshot.files()) {
+            int matched = matchedRules.size();
+            directoryIndex.match(changedFile.getFilename(), matchedRules);
+            if (matchedRules.size() == directoryIndex.size()
+                    || (rules != null && matchedRules.size() > matched && matchedRules.containsAll(rules))) {
+                break;
+            }
+        }
+
+        return matchedRules;
     }
 }
@@ -7,16 +7,26 @@ import java.util.regex.Pattern;
  */
 public class Patterns {
 
+    private static final int COMPILED_PATTERNS_CACHE_SIZE = 4096;
+    private static final LruCache<String, Pattern> COMPILED_PATTERNS = new LruCache<>(COMPILED_PATTERNS_CACHE_SIZE);
+
     public static boolean find(String pattern, String string) {
         if (Strings.isBlank(pattern)) {
             return false;
         }
+
+        return find(compile(pattern), string);
+    }
+
+    public static boolean find(Pattern pattern, String string) {
+        if (pattern == null) {
+            return false;
+        }
         if (Strings.isBlank(string)) {
             return false;
         }
 
-        return Pattern.compile(pattern, Pattern.DOTALL | Pattern.CASE_INSENSITIVE).matcher(string)
-                .find();
+        return pattern.matcher(string).find();
     }
 
     public static boolean matches(Pattern pattern, String string) {
@@ -27,6 +37,28 @@ public class Patterns {
         return pattern.matcher(string).find();
     }
 
+    /**
+     * Compiles the pattern with the flags used by {@link #find(String, String)}. Compiled patterns
+     * are shared across events, so every distinct pattern is compiled only once.
+     */
+    public static Pattern compile(String pattern) {
+        return COMPILED_PATTERNS.computeIfAbsent(pattern,
+                p -> Pattern.compile(p, Pattern.DOTALL | Pattern.CASE_INSENSITIVE));
+    }
+
+    /**
+     * Compiles the word so that it is matched only as a whole word.
+     *
+     * @return compiled pattern or null if the word is blank
+     */
+    public static Pattern compileWord(String word) {
+        if (Strings.isBlank(word)) {
+            return null;
+        }
+
+        return compile("\\b(" + word + ")\\b");
+    }
+
     private Patterns() {
     }
 }
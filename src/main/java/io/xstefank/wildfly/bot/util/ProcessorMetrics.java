@@ -0,0 +1,134 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.xstefank.wildfly.bot.format.Check;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile.WildFlyRule;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Records how long the processors and the format checks take and how often the rules match, tagged by the
+ * repository, so slow checks, slow rules and busy repositories can be found. The meters are exposed with
+ * the other metrics by the Prometheus endpoint. The processors and the checks are traced by
+ * {@link ProcessorTracing} as well. The outcome of a pull request event is {@value #SUCCESS}, {@value #ERROR},
+ * {@value #SKIPPED} if a processor skipped it, e.g. for a draft pull request, {@value #DUPLICATE} for a repeated
+ * delivery or {@value #SUPERSEDED} if a newer event of the pull request was received before it was processed.
+ */
+@ApplicationScoped
+public class ProcessorMetrics {
+
+    public static final String PROCESSING = "pull_request.processing";
+    public static final String CHECK = "pull_request.check";
+    public static final String RULE_MATCHES = "pull_request.rule.matches";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String SKIPPED = "skipped";
+    public static final String DUPLICATE = "duplicate";
+    public static final String SUPERSEDED = "superseded";
+
+    private static final String UNKNOWN = "unknown";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ProcessorTracing tracing;
+
+    @FunctionalInterface
+    public interface Processing {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Processor {
+        /**
+         * @return false if the processor skipped the event
+         */
+        boolean process() throws IOException;
+    }
+
+    /**
+     * Runs the processing of the pull request event and records its duration and outcome.
+     *
+     * @param processor name of the processor
+     */
+    public void process(String processor, GHEventPayload.PullRequest payload, Processor processing) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try {
+            outcome = tracing.process(processor, payload, processing) ? SUCCESS : SKIPPED;
+        } finally {
+            sample.stop(processingTimer(processor, payload, outcome));
+        }
+    }
+
+    /**
+     * Records an event skipped before the processor ran. The event is recorded with zero duration, so it is
+     * counted by its outcome without skewing the time spent processing the events.
+     *
+     * @param processor name of the processor, or "dispatcher" for events skipped before any processor
+     * @param outcome {@value #SKIPPED}, {@value #DUPLICATE} or {@value #SUPERSEDED}
+     */
+    public void skipped(String processor, GHEventPayload.PullRequest payload, String outcome) {
+        processingTimer(processor, payload, outcome).record(Duration.ZERO);
+    }
+
+    private Timer processingTimer(String processor, GHEventPayload.PullRequest payload, String outcome) {
+        return Timer.builder(PROCESSING)
+                .description("Time spent processing pull request events")
+                .tag("processor", processor)
+                .tag("repository", repository(payload.getPullRequest()))
+                .tag("action", payload.getAction() == null ? UNKNOWN : payload.getAction())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the check and records its duration and result.
+     *
+     * @return the result of the check
+     */
+    public String check(Check check, PullRequestSnapshot snapshot) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        try {
+            String message = tracing.check(check, snapshot);
+            result = message == null ? "passed" : "failed";
+            return message;
+        } finally {
+            sample.stop(Timer.builder(CHECK)
+                    .description("Time spent running format checks")
+                    .tag("check", check.getName())
+                    .tag("repository", repository(snapshot.pullRequest()))
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param match what the rule matched, e.g. "directory" or "title-body"
+     */
+    public void ruleMatched(GHPullRequest pullRequest, WildFlyRule rule, String match) {
+        Counter.builder(RULE_MATCHES)
+                .description("The number of pull request events matched by a rule")
+                .tag("repository", repository(pullRequest))
+                .tag("rule", rule.id == null ? UNKNOWN : rule.id)
+                .tag("match", match)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    static String repository(GHPullRequest pullRequest) {
+        GHRepository repository = pullRequest == null ? null : pullRequest.getRepository();
+        return repository == null || repository.getFullName() == null ? UNKNOWN : repository.getFullName();
+    }
+}
@@ -0,0 +1,69 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.xstefank.wildfly.bot.format.Check;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics.Processor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+
+import java.io.IOException;
+
+/**
+ * Traces the processors and the format checks. The span of a processor is a child of the root span
+ * of the webhook delivery and it is current while the processor runs, so the spans of the checks and
+ * of the GitHub requests sent by the processor become its children.
+ */
+@ApplicationScoped
+public class ProcessorTracing {
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    DeliveryTrace deliveryTrace;
+
+    /**
+     * @return false if the processor skipped the event
+     */
+    public boolean process(String processor, GHEventPayload.PullRequest payload, Processor processing) throws IOException {
+        Span span = tracer.spanBuilder("processor " + processor)
+                .setParent(deliveryTrace.context(payload))
+                .setAttribute("processor", processor)
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            boolean processed = processing.process();
+            span.setAttribute("processor.skipped", !processed);
+            return processed;
+        } catch (IOException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * @return the result of the check
+     */
+    public String check(Check check, PullRequestSnapshot snapshot) throws IOException {
+        Span span = tracer.spanBuilder("check " + check.getName())
+                .setAttribute("check", check.getName())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            String message = check.check(snapshot);
+            span.setAttribute("check.passed", message == null);
+            return message;
+        } catch (IOException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.xstefank.wildfly.bot.util;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GHPullRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recognizes pull request events delivered more than once, e.g. redelivered by GitHub or manually.
+ * A delivery is a duplicate if a delivery with the same action on the same head commit and the same last
+ * update of the pull request was already processed. The GUID of the delivery is not available to the event
+ * observers, a redelivered event has the same payload though. The decision is made
+ * by the first processor handling the delivery and it is shared by all processors handling it, so
+ * duplicates are skipped before any request to GitHub is sent by the processors.
+ */
+@RequestScoped
+public class PullRequestDeduplicator {
+
+    @Inject
+    DeliveryHistory deliveryHistory;
+
+    private Boolean duplicate;
+    private List<String> keys = List.of();
+
+    /**
+     * @return true if the delivery was already processed
+     */
+    public synchronized boolean isDuplicate(GHEventPayload.PullRequest payload) throws IOException {
+        if (duplicate == null) {
+            keys = keys(payload);
+            duplicate = !deliveryHistory.claim(keys);
+        }
+        return duplicate;
+    }
+
+    /**
+     * @return the keys claimed by the delivery, to be released by {@link DeliveryHistory#release(List)} if
+     *         the delivery is processed outside of its request and the processing fails
+     */
+    public synchronized List<String> claimedKeys() {
+        return Boolean.FALSE.equals(duplicate) ? keys : List.of();
+    }
+
+    /**
+     * Releases the delivery, as its processing failed, so it is processed again if it is redelivered.
+     */
+    public synchronized void failed() {
+        if (Boolean.FALSE.equals(duplicate)) {
+            deliveryHistory.release(keys);
+        }
+    }
+
+    private static List<String> keys(GHEventPayload.PullRequest payload) throws IOException {
+        List<String> keys = new ArrayList<>();
+        GHPullRequest pullRequest = payload.getPullRequest();
+        if (pullRequest.getHead() != null && pullRequest.getUpdatedAt() != null) {
+            keys.add("event:%s#%d:%s:%s:%d".formatted(ProcessorMetrics.repository(pullRequest), pullRequest.getNumber(),
+                    payload.getAction(), pullRequest.getHead().getSha(), pullRequest.getUpdatedAt().getTime()));
+        }
+        return keys;
+    }
+}
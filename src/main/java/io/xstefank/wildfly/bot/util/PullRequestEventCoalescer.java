@@ -0,0 +1,174 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics.Processing;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues the processing of pull request events per pull request. The processing of an event is started
+ * once no newer event of the same pull request is received for {@link WildFlyBotConfig#pullRequestDebounce()},
+ * the processing of an event superseded by a newer event is dropped. At most one event of a pull request
+ * is processed at a time, an event whose window elapses while an older event of the pull request is processed
+ * is processed right after it. The events are processed right away if the debouncing is disabled.
+ */
+@ApplicationScoped
+public class PullRequestEventCoalescer {
+
+    private static final Logger LOG = Logger.getLogger(PullRequestEventCoalescer.class);
+
+    // guarded by this
+    private final Map<String, PullRequestEvents> events = new HashMap<>();
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ManagedExecutor executor;
+
+    private Counter coalesced;
+    private ScheduledExecutorService timers;
+
+    /**
+     * The events of a pull request, the latest event waiting to be processed and whether an event is processed.
+     */
+    private static final class PullRequestEvents {
+
+        private Pending pending;
+        private boolean processing;
+    }
+
+    private static final class Pending {
+
+        private final Processing processing;
+        private final Runnable onSuperseded;
+        private ScheduledFuture<?> timer;
+        private boolean elapsed;
+
+        private Pending(Processing processing, Runnable onSuperseded) {
+            this.processing = processing;
+            this.onSuperseded = onSuperseded;
+        }
+    }
+
+    @PostConstruct
+    void construct() {
+        coalesced = Counter.builder("pull_request.events.coalesced")
+                .description("The number of pull request events skipped in favour of a newer event")
+                .register(meterRegistry);
+        timers = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pull-request-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        timers.shutdownNow();
+    }
+
+    /**
+     * Submits the processing of an event of the pull request. The processing of an event of the pull request
+     * submitted before and not started yet is dropped. The method returns once the processing is queued,
+     * unless the debouncing is disabled and the event is processed right away.
+     *
+     * @param onSuperseded invoked if the event is dropped in favour of a newer event
+     */
+    public void submit(String pullRequestKey, Processing eventProcessing, Runnable onSuperseded) throws IOException {
+        Duration window = wildFlyBotConfig.pullRequestDebounce();
+        if (window.isZero() || window.isNegative()) {
+            eventProcessing.run();
+            return;
+        }
+
+        Pending pending = new Pending(eventProcessing, onSuperseded);
+        Pending superseded;
+        synchronized (this) {
+            PullRequestEvents pullRequestEvents = events.computeIfAbsent(pullRequestKey, key -> new PullRequestEvents());
+            superseded = pullRequestEvents.pending;
+            pullRequestEvents.pending = pending;
+            if (superseded != null) {
+                superseded.timer.cancel(false);
+            }
+            pending.timer = timers.schedule(() -> elapsed(pullRequestKey, pending), window.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+        if (superseded != null) {
+            superseded.onSuperseded.run();
+            coalesced.increment();
+        }
+    }
+
+    /**
+     * Starts the processing of the event once its window elapsed, unless another event of the pull request
+     * is processed.
+     */
+    private synchronized void elapsed(String pullRequestKey, Pending pending) {
+        PullRequestEvents pullRequestEvents = events.get(pullRequestKey);
+        // an event superseded in the meantime is not pending anymore
+        if (pullRequestEvents == null || pullRequestEvents.pending != pending) {
+            return;
+        }
+        pending.elapsed = true;
+        if (!pullRequestEvents.processing) {
+            pullRequestEvents.pending = null;
+            pullRequestEvents.processing = true;
+            executor.execute(() -> process(pullRequestKey, pending));
+        }
+    }
+
+    /**
+     * Processes the event and the events of the pull request whose window elapsed in the meantime.
+     */
+    private void process(String pullRequestKey, Pending pending) {
+        Pending next = pending;
+        while (next != null) {
+            try {
+                next.processing.run();
+            } catch (IOException | RuntimeException e) {
+                LOG.errorf(e, "Unable to process the pull request event of %s", pullRequestKey);
+            }
+            next = completed(pullRequestKey);
+        }
+    }
+
+    /**
+     * @return the event of the pull request to be processed next, or null if the processing of its events stops
+     */
+    private synchronized Pending completed(String pullRequestKey) {
+        PullRequestEvents pullRequestEvents = events.get(pullRequestKey);
+        Pending next = pullRequestEvents.pending;
+        if (next != null && next.elapsed) {
+            pullRequestEvents.pending = null;
+            return next;
+        }
+        pullRequestEvents.processing = false;
+        if (next == null) {
+            events.remove(pullRequestKey);
+        }
+        return null;
+    }
+
+    public static String key(String repository, int pullRequestNumber) {
+        return repository + "#" + pullRequestNumber;
+    }
+}
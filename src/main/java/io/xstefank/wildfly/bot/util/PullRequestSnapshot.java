@@ -0,0 +1,80 @@
+package io.xstefank.wildfly.bot.util;
+
+import org.kohsuke.github.GHIssueComment;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestCommitDetail;
+import org.kohsuke.github.GHPullRequestFileDetail;
+import org.kohsuke.github.PagedIterable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lazily fetched files, commits and comments of a pull request. Each of them is listed from GitHub
+ * at most once and the same immutable list is returned to every caller afterwards.
+ *
+ * @see PullRequestSnapshotProvider
+ */
+public class PullRequestSnapshot {
+
+    private final GHPullRequest pullRequest;
+    private List<GHPullRequestFileDetail> files;
+    private List<GHPullRequestCommitDetail> commits;
+    private List<GHIssueComment> comments;
+
+    public PullRequestSnapshot(GHPullRequest pullRequest) {
+        this.pullRequest = pullRequest;
+    }
+
+    public GHPullRequest pullRequest() {
+        return pullRequest;
+    }
+
+    public synchronized List<GHPullRequestFileDetail> files() {
+        if (files == null) {
+            files = toList(pullRequest.listFiles());
+        }
+        return files;
+    }
+
+    public synchronized List<GHPullRequestCommitDetail> commits() {
+        if (commits == null) {
+            commits = toList(pullRequest.listCommits());
+        }
+        return commits;
+    }
+
+    public synchronized List<GHIssueComment> comments() throws IOException {
+        if (comments == null) {
+            comments = toList(pullRequest.listComments());
+        }
+        return comments;
+    }
+
+    /**
+     * @return the comment with the id if the comments were already listed, without listing them otherwise
+     */
+    public synchronized Optional<GHIssueComment> listedComment(long id) {
+        if (comments == null) {
+            return Optional.empty();
+        }
+        return comments.stream()
+                .filter(comment -> comment.getId() == id)
+                .findFirst();
+    }
+
+    private static <T> List<T> toList(PagedIterable<T> iterable) {
+        if (iterable == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> list = new ArrayList<>();
+        for (T item : iterable) {
+            list.add(item);
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
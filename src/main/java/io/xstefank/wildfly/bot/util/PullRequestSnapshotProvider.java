@@ -0,0 +1,21 @@
+package io.xstefank.wildfly.bot.util;
+
+import jakarta.enterprise.context.RequestScoped;
+import org.kohsuke.github.GHPullRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides {@link PullRequestSnapshot}s shared by all processors handling the same webhook delivery,
+ * so the files, commits and comments of the pull request are listed from GitHub only once per delivery.
+ */
+@RequestScoped
+public class PullRequestSnapshotProvider {
+
+    private final Map<Long, PullRequestSnapshot> snapshots = new HashMap<>();
+
+    public synchronized PullRequestSnapshot get(GHPullRequest pullRequest) {
+        return snapshots.computeIfAbsent(pullRequest.getId(), id -> new PullRequestSnapshot(pullRequest));
+    }
+}
@@ -0,0 +1,288 @@
+package io.xstefank.wildfly.bot.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.util.BotCommentIndex.BotComment;
+import io.xstefank.wildfly.bot.util.BotCommentIndex.Kind;
+import io.xstefank.wildfly.bot.util.CommitStatusCache.Status;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps the state of the bot on pull requests in an embedded file, so it survives restarts of the bot.
+ * The bot comments of a pull request and the commit statuses posted by the bot are written through
+ * by {@link BotCommentIndex} and {@link CommitStatusCache}, which read them from the store when they
+ * are not cached in memory. The head commit of the last processed event of a pull request and the labels
+ * the bot applied to it are stored as well. The state of closed pull requests and of commits without new statuses
+ * is removed once it is older than {@link WildFlyBotConfig#stateStoreTtl()} and the file is compacted.
+ * The keys of processed webhook deliveries are kept for the same time for {@link DeliveryHistory}.
+ * The store is disabled if {@link WildFlyBotConfig#stateStorePath()} is not set.
+ */
+@ApplicationScoped
+public class PullRequestStateStore {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_COMPACT_TIME_MILLIS = 1000;
+
+    /**
+     * State of the bot on a pull request, {@code closedAt} is zero for open pull requests. Each part of the state
+     * is null while it is not known.
+     */
+    public record PullRequestState(Map<Kind, BotComment> comments, String headSha, Set<String> labels, long closedAt) {
+
+        private static final PullRequestState UNKNOWN = new PullRequestState(null, null, null, 0L);
+    }
+
+    public record CommitStatuses(Map<String, Status> statuses, long postedAt) {
+    }
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private MVStore store;
+    private MVMap<Long, String> pullRequests;
+    private MVMap<String, String> commitStatuses;
+    private MVMap<String, Long> deliveries;
+
+    @PostConstruct
+    void construct() {
+        if (wildFlyBotConfig.stateStorePath().isEmpty()) {
+            return;
+        }
+        store = new MVStore.Builder()
+                .fileName(wildFlyBotConfig.stateStorePath().get())
+                .compress()
+                .open();
+        pullRequests = store.openMap("pull-requests");
+        commitStatuses = store.openMap("commit-statuses");
+        deliveries = store.openMap("deliveries");
+        meterRegistry.gauge("cache.size", Tags.of("cache", "pull-request-state"), pullRequests, MVMap::size);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "commit-status-state"), commitStatuses, MVMap::size);
+        Log.infof("Pull request state is stored in %s", wildFlyBotConfig.stateStorePath().get());
+    }
+
+    @PreDestroy
+    void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * @return the stored bot comments of the pull request or null if they are not known
+     */
+    public Map<Kind, BotComment> comments(GHPullRequest pullRequest) {
+        PullRequestState state = state(pullRequest);
+        return state == null ? null : state.comments();
+    }
+
+    /**
+     * Stores the bot comments of the pull request, the pull request is open as the bot only comments
+     * on open pull requests. Null comments remove the stored comments, so they are listed again.
+     */
+    public void comments(GHPullRequest pullRequest, Map<Kind, BotComment> comments) {
+        update(pullRequest, state -> new PullRequestState(comments, state.headSha(), state.labels(), 0L));
+    }
+
+    /**
+     * @return the head commit of the last processed event of the pull request or null if it is not known
+     */
+    public String headSha(GHPullRequest pullRequest) {
+        PullRequestState state = state(pullRequest);
+        return state == null ? null : state.headSha();
+    }
+
+    /**
+     * Stores the head commit of the processed event of the pull request.
+     */
+    public void processed(GHPullRequest pullRequest) {
+        if (store == null) {
+            return;
+        }
+        String headSha = pullRequest.getHead() == null ? null : pullRequest.getHead().getSha();
+        if (headSha != null) {
+            update(pullRequest, state -> new PullRequestState(state.comments(), headSha, state.labels(), 0L));
+        }
+    }
+
+    /**
+     * @return the labels the bot applied to the pull request or null if they are not known
+     */
+    public Set<String> labels(GHPullRequest pullRequest) {
+        PullRequestState state = state(pullRequest);
+        return state == null ? null : state.labels();
+    }
+
+    /**
+     * Adds the labels to the labels the bot applied to the pull request.
+     */
+    public void labelsApplied(GHPullRequest pullRequest, Collection<String> labels) {
+        update(pullRequest, state -> {
+            Set<String> applied = state.labels() == null ? new TreeSet<>() : new TreeSet<>(state.labels());
+            applied.addAll(labels);
+            return new PullRequestState(state.comments(), state.headSha(), applied, 0L);
+        });
+    }
+
+    /**
+     * Marks the state of the pull request to be removed once it is older than the TTL of the store.
+     */
+    public void closed(GHPullRequest pullRequest) {
+        PullRequestState state = state(pullRequest);
+        if (state != null) {
+            write(pullRequests, pullRequest.getId(), new PullRequestState(state.comments(), state.headSha(),
+                    state.labels(), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Keeps the state of the reopened pull request, which was marked to be removed when it was closed.
+     */
+    public void reopened(GHPullRequest pullRequest) {
+        PullRequestState state = state(pullRequest);
+        if (state != null && state.closedAt() != 0L) {
+            write(pullRequests, pullRequest.getId(),
+                    new PullRequestState(state.comments(), state.headSha(), state.labels(), 0L));
+        }
+    }
+
+    private PullRequestState state(GHPullRequest pullRequest) {
+        return store == null ? null : read(pullRequests.get(pullRequest.getId()), PullRequestState.class);
+    }
+
+    /**
+     * Stores the updated state of the pull request, the pull request is open as the bot only processes events
+     * of open pull requests.
+     */
+    private void update(GHPullRequest pullRequest, UnaryOperator<PullRequestState> update) {
+        if (store == null) {
+            return;
+        }
+        synchronized (pullRequests) {
+            PullRequestState state = state(pullRequest);
+            write(pullRequests, pullRequest.getId(), update.apply(state == null ? PullRequestState.UNKNOWN : state));
+        }
+    }
+
+    /**
+     * @return the stored statuses of the commit by their context or null if they are not known
+     */
+    public Map<String, Status> statuses(GHRepository repository, String sha) {
+        if (store == null) {
+            return null;
+        }
+        CommitStatuses statuses = read(commitStatuses.get(CommitStatusCache.key(repository, sha)), CommitStatuses.class);
+        return statuses == null ? null : statuses.statuses();
+    }
+
+    public void statuses(GHRepository repository, String sha, Map<String, Status> statuses) {
+        if (store != null) {
+            write(commitStatuses, CommitStatusCache.key(repository, sha),
+                    new CommitStatuses(statuses, System.currentTimeMillis()));
+        }
+    }
+
+    public boolean isDelivered(String deliveryKey) {
+        return store != null && deliveries.containsKey(deliveryKey);
+    }
+
+    public void delivered(String deliveryKey) {
+        if (store != null) {
+            deliveries.put(deliveryKey, System.currentTimeMillis());
+        }
+    }
+
+    public void undelivered(String deliveryKey) {
+        if (store != null) {
+            deliveries.remove(deliveryKey);
+        }
+    }
+
+    /**
+     * Removes the expired state and compacts the file of the store.
+     */
+    @Scheduled(every = "{wildfly-bot.state-store-maintenance-interval}")
+    void maintain() {
+        if (store == null) {
+            return;
+        }
+        long expiredBefore = System.currentTimeMillis() - wildFlyBotConfig.stateStoreTtl().toMillis();
+        int removed = removeIf(pullRequests, PullRequestState.class,
+                state -> state.closedAt() != 0L && state.closedAt() < expiredBefore)
+                + removeIf(commitStatuses, CommitStatuses.class, statuses -> statuses.postedAt() < expiredBefore);
+        List<String> expiredDeliveries = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : deliveries.entrySet()) {
+            if (entry.getValue() < expiredBefore) {
+                expiredDeliveries.add(entry.getKey());
+            }
+        }
+        expiredDeliveries.forEach(deliveries::remove);
+        removed += expiredDeliveries.size();
+        store.commit();
+        store.compactFile(MAX_COMPACT_TIME_MILLIS);
+        Log.debugf("Removed %d expired entries from the pull request state store", removed);
+    }
+
+    private static <K, V> int removeIf(MVMap<K, String> map, Class<V> type, Predicate<V> expired) {
+        List<K> keys = new ArrayList<>();
+        for (Map.Entry<K, String> entry : map.entrySet()) {
+            V value = read(entry.getValue(), type);
+            if (value == null || expired.test(value)) {
+                keys.add(entry.getKey());
+            }
+        }
+        keys.forEach(map::remove);
+        return keys.size();
+    }
+
+    private static <K> void write(MVMap<K, String> map, K key, Object value) {
+        try {
+            map.put(key, OBJECT_MAPPER.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            Log.warnf(e, "Unable to store the state of %s", key);
+        }
+    }
+
+    /**
+     * @return the deserialized value or null, if the value is missing or was stored by an incompatible
+     *         version of the bot
+     */
+    private static <V> V read(String value, Class<V> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            Log.debugf(e, "Unable to read the stored state %s", value);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.xstefank.wildfly.bot.util;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHEventPayload;
+import org.kohsuke.github.GitHub;
+
+/**
+ * Reports the webhook delivery to the {@link GitHubRateLimiter} for its whole processing, so background work
+ * of the installation gives way to it. Once all processors handling the delivery are done, the rate limit
+ * of the last response is recorded.
+ */
+@RequestScoped
+public class RateLimitTracker {
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    private Long installationId;
+    private GitHub gitHub;
+
+    public synchronized void track(GHEventPayload payload, GitHub gitHub) {
+        if (installationId == null && payload.getInstallation() != null) {
+            installationId = payload.getInstallation().getId();
+            this.gitHub = gitHub;
+            rateLimiter.eventStarted(installationId);
+        }
+    }
+
+    @PreDestroy
+    synchronized void completed() {
+        if (installationId != null) {
+            rateLimiter.eventCompleted(installationId, gitHub);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Provides paths of all files and directories on the default branch of a repository, listed with a single
+ * recursive git tree request. The paths are cached by the commit the default branch points to, so the
+ * tree is listed again only after the branch moves.
+ */
+@ApplicationScoped
+public class RepositoryTreeCache {
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private LruCache<String, Set<String>> trees;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void construct() {
+        trees = new LruCache<>(wildFlyBotConfig.repositoryTreeCacheSize());
+        hits = Counter.builder("cache.gets").tag("cache", "repository-trees").tag("result", "hit")
+                .description("The number of times repository paths were found in the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "repository-trees").tag("result", "miss")
+                .description("The number of times the git tree of a repository was listed from GitHub")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.size", Tags.of("cache", "repository-trees"), trees, LruCache::size);
+    }
+
+    /**
+     * @return paths of all files and directories on the default branch of the repository or empty
+     *         if the tree is too large to be listed by a single request
+     */
+    public Optional<Set<String>> getPaths(GHRepository repository) throws IOException {
+        String commitSha = repository.getBranch(repository.getDefaultBranch()).getSHA1();
+        String key = repository.getFullName() + "@" + commitSha;
+
+        Set<String> paths = trees.get(key);
+        if (paths != null) {
+            hits.increment();
+            return Optional.of(paths);
+        }
+
+        misses.increment();
+        GHTree tree = repository.getTreeRecursive(commitSha, 1);
+        if (tree.isTruncated()) {
+            return Optional.empty();
+        }
+
+        paths = new HashSet<>();
+        for (GHTreeEntry entry : tree.getTree()) {
+            paths.add(entry.getPath());
+        }
+        paths = Set.copyOf(paths);
+        trees.put(key, paths);
+        return Optional.of(paths);
+    }
+}
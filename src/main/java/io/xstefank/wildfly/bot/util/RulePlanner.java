@@ -0,0 +1,41 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
+import io.xstefank.wildfly.bot.model.WildFlyConfigFile.WildFlyConfig;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Evaluates the predicates of the rules from the cheapest one. The title, body and titleBody of all rules are
+ * matched in memory first. The files of the pull request are listed from GitHub afterwards only if the result
+ * of at least one rule still depends on its directories, i.e. a rule with directories, which is not matched
+ * by the title or the body, or which notifies users, as they are requested to review the pull request only
+ * if a directory is matched. Configurations without any directories never list the files.
+ */
+public final class RulePlanner {
+
+    /**
+     * @param directories rules matched by their directories
+     * @param text rules matched by their title, body or titleBody
+     */
+    public record Matches(Set<CompiledWildFlyRule> directories, Set<CompiledWildFlyRule> text) {
+    }
+
+    public static Matches match(PullRequestSnapshot snapshot, WildFlyConfig config) {
+        Set<CompiledWildFlyRule> textMatches = Matcher.matchText(snapshot.pullRequest(), config.getRuleTextIndex());
+
+        Set<CompiledWildFlyRule> pendingRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CompiledWildFlyRule rule : config.getCompiledRules()) {
+            if (!rule.rule.directories.isEmpty() && (!textMatches.contains(rule) || !rule.rule.notify.isEmpty())) {
+                pendingRules.add(rule);
+            }
+        }
+
+        return new Matches(Matcher.matchDirectories(snapshot, config.getDirectoryIndex(), pendingRules), textMatches);
+    }
+
+    private RulePlanner() {
+    }
+}
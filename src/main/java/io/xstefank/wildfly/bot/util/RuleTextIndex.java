@@ -0,0 +1,82 @@
+package io.xstefank.wildfly.bot.util;
+
+import io.xstefank.wildfly.bot.model.CompiledWildFlyRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the {@code title}, {@code body} and {@code titleBody} of all rules. Plain words, which most of the rules
+ * use, are compiled into a single {@link KeywordAutomaton} for the title and another one for the body, so the title
+ * and the body are scanned only once for all of them. Only the rules using regex syntax are matched by their patterns.
+ */
+public class RuleTextIndex {
+
+    private final Text title = new Text();
+    private final Text body = new Text();
+
+    public RuleTextIndex(Collection<CompiledWildFlyRule> rules) {
+        for (CompiledWildFlyRule rule : rules) {
+            title.add(rule, rule.rule.title, rule.title);
+            title.add(rule, rule.rule.titleBody, rule.titleBody);
+            body.add(rule, rule.rule.body, rule.body);
+            body.add(rule, rule.rule.titleBody, rule.titleBody);
+        }
+        title.build();
+        body.build();
+    }
+
+    /**
+     * @return rules whose title, body or titleBody is found in the title or the body of the pull request
+     */
+    public Set<CompiledWildFlyRule> match(String pullRequestTitle, String pullRequestBody) {
+        Set<CompiledWildFlyRule> matchedRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        title.match(pullRequestTitle, matchedRules);
+        body.match(pullRequestBody, matchedRules);
+        return matchedRules;
+    }
+
+    private record RulePattern(CompiledWildFlyRule rule, Pattern pattern) {
+    }
+
+    private static final class Text {
+
+        private final List<String> keywords = new ArrayList<>();
+        private final List<CompiledWildFlyRule> keywordRules = new ArrayList<>();
+        private final List<RulePattern> patterns = new ArrayList<>();
+        private KeywordAutomaton automaton;
+
+        void add(CompiledWildFlyRule rule, String word, Pattern pattern) {
+            if (KeywordAutomaton.isLiteral(word)) {
+                keywords.add(word);
+                keywordRules.add(rule);
+            } else if (pattern != null) {
+                patterns.add(new RulePattern(rule, pattern));
+            }
+        }
+
+        void build() {
+            automaton = keywords.isEmpty() ? null : new KeywordAutomaton(keywords);
+        }
+
+        void match(String text, Set<CompiledWildFlyRule> matchedRules) {
+            if (Strings.isBlank(text)) {
+                return;
+            }
+
+            if (automaton != null) {
+                automaton.match(text, keyword -> matchedRules.add(keywordRules.get(keyword)));
+            }
+            for (RulePattern rulePattern : patterns) {
+                if (!matchedRules.contains(rulePattern.rule()) && rulePattern.pattern().matcher(text).find()) {
+                    matchedRules.add(rulePattern.rule());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.xstefank.wildfly.bot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.xstefank.wildfly.bot.util.GitHubRateLimiter;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for sharing the GitHub rate limit of an installation between webhook events and background work.
+ */
+@QuarkusTest
+public class GitHubRateLimiterTest {
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    public void testBudgetTakenFromLastResponse() throws IOException {
+        GitHub gitHub = mockGitHub(4000, 5000, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+
+        rateLimiter.acquireBackground(1L, gitHub);
+
+        Assertions.assertEquals(3999, rateLimiter.remaining(1L));
+        Assertions.assertEquals(3999, meterRegistry.get("github.rate-limit.remaining")
+                .tag("installation", "1").gauge().value());
+        Assertions.assertEquals(5000, meterRegistry.get("github.rate-limit.limit")
+                .tag("installation", "1").gauge().value());
+    }
+
+    @Test
+    public void testBackgroundWorkFailsWithinReserve() {
+        GitHub gitHub = mockGitHub(100, 5000, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+
+        long start = System.currentTimeMillis();
+        Assertions.assertThrows(GitHubRateLimiter.BudgetExhaustedException.class,
+                () -> rateLimiter.acquireBackground(2L, gitHub));
+        Assertions.assertThrows(GitHubRateLimiter.BudgetExhaustedException.class,
+                () -> rateLimiter.background(2L, () -> Assertions.fail("The background work must not run")));
+
+        Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+        Assertions.assertEquals(100, rateLimiter.remaining(2L));
+    }
+
+    @Test
+    public void testBackgroundRequestsPacedByTokenBucket() throws IOException {
+        // the limit is replenished at 10 requests per second, the first 100 requests are sent at once
+        GitHub gitHub = mockGitHub(30000, 36000, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquireBackground(5L, gitHub);
+        }
+        Assertions.assertTrue(System.currentTimeMillis() - start < 500);
+
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquireBackground(5L, gitHub);
+        }
+        Assertions.assertTrue(System.currentTimeMillis() - start >= 800);
+    }
+
+    @Test
+    public void testBackgroundWorkGivesWayToEvents() throws Exception {
+        GitHub gitHub = mockGitHub(4000, 5000, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+        rateLimiter.eventStarted(3L);
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<Void> backgroundWork = CompletableFuture.runAsync(() -> {
+            try {
+                rateLimiter.acquireBackground(3L, gitHub);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(500);
+        Assertions.assertFalse(backgroundWork.isDone());
+
+        rateLimiter.eventCompleted(3L, gitHub);
+        backgroundWork.get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(System.currentTimeMillis() - start >= 500);
+    }
+
+    @Test
+    public void testEveryBackgroundRequestAcquiresBudget() throws IOException {
+        long reset = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600;
+        GitHubConnectorResponse response = mock(GitHubConnectorResponse.class);
+        when(response.header("X-RateLimit-Remaining")).thenReturn("100");
+        when(response.header("X-RateLimit-Limit")).thenReturn("5000");
+        when(response.header("X-RateLimit-Reset")).thenReturn(String.valueOf(reset));
+        GitHubConnector connector = rateLimiter.connector(request -> response);
+        GitHubConnectorRequest request = mock(GitHubConnectorRequest.class);
+
+        // requests of webhook events are neither delayed nor counted
+        connector.send(request);
+        Assertions.assertEquals(-1, rateLimiter.remaining(4L));
+
+        // the first response leaves only the reserved requests, so the second request is not sent
+        Assertions.assertThrows(GitHubRateLimiter.BudgetExhaustedException.class, () -> rateLimiter.background(4L, () -> {
+            connector.send(request);
+            connector.send(request);
+        }));
+
+        verify(response, times(1)).header("X-RateLimit-Remaining");
+        Assertions.assertEquals(100, rateLimiter.remaining(4L));
+    }
+
+    private static GitHub mockGitHub(int remaining, int limit, long resetEpochSeconds) {
+        GHRateLimit rateLimit = mock(GHRateLimit.class);
+        when(rateLimit.getCore()).thenReturn(new GHRateLimit.Record(limit, remaining, resetEpochSeconds));
+        GitHub gitHub = mock(GitHub.class);
+        when(gitHub.lastRateLimit()).thenReturn(rateLimit);
+        return gitHub;
+    }
+}
@@ -0,0 +1,91 @@
+package io.xstefank.wildfly.bot;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkiverse.githubapp.GitHubClientProvider;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.util.GitHubRateLimiter;
+import io.xstefank.wildfly.bot.utils.GitHubApiStub;
+import io.xstefank.wildfly.bot.utils.InMemorySpans;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that the GitHub clients of the installations trace and rate limit their requests and revalidate
+ * the labels listed before.
+ */
+@QuarkusTest
+@TestProfile(InstrumentedGitHubClientsTest.InstrumentedClientsProfile.class)
+public class InstrumentedGitHubClientsTest {
+
+    @Inject
+    GitHubClientProvider clientProvider;
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    @Inject
+    InMemorySpans spans;
+
+    public static class InstrumentedClientsProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot-build.instrument-github-clients", "true");
+        }
+
+        @Override
+        public List<TestResourceEntry> testResources() {
+            return List.of(new TestResourceEntry(GitHubApiStub.class));
+        }
+    }
+
+    @Test
+    public void testInstallationClientInstrumented() throws IOException {
+        spans.exporter().reset();
+        GitHubApiStub.remaining(4000);
+
+        GitHub gitHub = clientProvider.getInstallationClient(GitHubApiStub.INSTALLATION_ID);
+        Assertions.assertSame(gitHub, clientProvider.getInstallationClient(GitHubApiStub.INSTALLATION_ID));
+        rateLimiter.background(GitHubApiStub.INSTALLATION_ID, () -> gitHub.getRepository("org/repo"));
+
+        GitHubApiStub.Request request = GitHubApiStub.requests().stream()
+                .filter(r -> r.path().equals("/repos/org/repo"))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("token " + GitHubApiStub.INSTALLATION_TOKEN, request.authorization());
+
+        List<SpanData> finishedSpans = spans.exporter().getFinishedSpanItems();
+        Assertions.assertTrue(finishedSpans.stream()
+                .anyMatch(span -> span.getName().equals("GitHub GET")
+                        && span.getAttributes().asMap().values().stream()
+                                .anyMatch(value -> value.toString().endsWith("/repos/org/repo"))));
+
+        // the budget of the background work is taken from the response of its request
+        Assertions.assertEquals(4000, rateLimiter.remaining(GitHubApiStub.INSTALLATION_ID));
+    }
+
+    @Test
+    public void testListedLabelsRevalidated() throws IOException {
+        GHRepository repository = clientProvider.getInstallationClient(GitHubApiStub.INSTALLATION_ID)
+                .getRepository("org/labels");
+
+        Assertions.assertEquals(List.of("label1"), repository.listLabels().toList().stream().map(GHLabel::getName).toList());
+        Assertions.assertEquals(List.of("label1"), repository.listLabels().toList().stream().map(GHLabel::getName).toList());
+
+        List<GitHubApiStub.Request> labelRequests = GitHubApiStub.requests().stream()
+                .filter(request -> request.path().equals("/repos/org/labels/labels"))
+                .toList();
+        Assertions.assertEquals(2, labelRequests.size());
+        Assertions.assertNull(labelRequests.get(0).ifNoneMatch());
+        Assertions.assertEquals(GitHubApiStub.LABELS_ETAG, labelRequests.get(1).ifNoneMatch());
+        Assertions.assertEquals(304, labelRequests.get(1).status());
+    }
+}
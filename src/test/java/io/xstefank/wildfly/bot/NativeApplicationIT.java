@@ -0,0 +1,63 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Tests the packaged application, run with the native executable by {@code ./mvnw verify -Dnative}. The tests
+ * mocking GitHub run only in the JVM, as the mocks cannot be shared with the executable.
+ */
+@QuarkusIntegrationTest
+@TestProfile(NativeApplicationIT.UnreachableGitHubProfile.class)
+public class NativeApplicationIT {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @TestHTTPResource("/q/health/live")
+    URL live;
+
+    @TestHTTPResource("/q/health/ready")
+    URL ready;
+
+    @TestHTTPResource("/q/metrics")
+    URL metrics;
+
+    /**
+     * GitHub is not reachable, so the startup validation of the repositories fails right away.
+     */
+    public static class UnreachableGitHubProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.github-app.instance-endpoint", "http://localhost:1");
+        }
+    }
+
+    @Test
+    void testApplicationStarted() throws IOException, InterruptedException {
+        Assertions.assertEquals(200, get(live).statusCode());
+        Assertions.assertEquals(200, get(ready).statusCode());
+    }
+
+    @Test
+    void testCacheMetricsExposed() throws IOException, InterruptedException {
+        HttpResponse<String> response = get(metrics);
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.body().contains("cache_size"));
+    }
+
+    private HttpResponse<String> get(URL url) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(url.toString())).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,149 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkiverse.githubapp.testing.dsl.GitHubMockSetupContext;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.graphql.client.Response;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.util.BotCommentIndex;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.GHPullRequest;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+
+/**
+ * Tests for updating the comments of the bot indexed by previous events.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRBotCommentIndexTest.BotCommentIndexEnabledProfile.class)
+public class PRBotCommentIndexTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - id: "Title"
+                  title: "WFLY"
+                  notify: [%s]
+              format:
+                title:
+                  enabled: false
+                commit:
+                  enabled: false
+            """;
+
+    private static final String NODE_ID = "IC_0";
+
+    private static final long INSTALLATION_ID = 22950279L;
+
+    private static GitHubJson gitHubJson;
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    BotCommentIndex botCommentIndex;
+
+    public static class BotCommentIndexEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.bot-comment-index-size", "100");
+        }
+    }
+
+    @BeforeAll
+    static void setupTests() throws IOException {
+        gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+    }
+
+    @BeforeEach
+    void invalidateIndex() {
+        GHPullRequest pullRequest = Mockito.mock(GHPullRequest.class);
+        Mockito.when(pullRequest.getId()).thenReturn(gitHubJson.id());
+        botCommentIndex.invalidate(pullRequest);
+    }
+
+    @Test
+    void testIndexedCommentUpdatedWithoutListingComments() throws IOException {
+        indexComment();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile.formatted("user1, user2"), gitHubJson, mockedContext());
+            mockMutation(mocks, false);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never()).listComments();
+                    Mockito.verify(mocks.issueComment(0), Mockito.never()).update(ArgumentMatchers.anyString());
+                    try {
+                        Mockito.verify(mocks.installationGraphQLClient(INSTALLATION_ID)).executeSync(
+                                ArgumentMatchers.contains("updateIssueComment"),
+                                ArgumentMatchers.eq(Map.of("id", NODE_ID, "body", "/cc @user1, @user2")));
+                    } catch (ExecutionException | InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    @Test
+    void testOutdatedIndexedCommentListedAgain() throws IOException {
+        indexComment();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile.formatted("user1, user2"), gitHubJson, mockedContext());
+            mockMutation(mocks, true);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).listComments();
+                    Mockito.verify(mocks.issueComment(0)).update("/cc @user1, @user2");
+                });
+    }
+
+    /**
+     * Lists the comments of the pull request once, so the "/cc" comment of the bot is indexed.
+     */
+    private void indexComment() throws IOException {
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile.formatted("user1"), gitHubJson, mockedContext()))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).listComments();
+                    Mockito.verify(mocks.issueComment(0)).update("/cc @user1");
+                });
+    }
+
+    private static void mockMutation(GitHubMockSetupContext mocks, boolean hasError) {
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.hasError()).thenReturn(hasError);
+        try {
+            Mockito.when(mocks.installationGraphQLClient(INSTALLATION_ID)
+                    .executeSync(ArgumentMatchers.anyString(), ArgumentMatchers.anyMap())).thenReturn(response);
+        } catch (ExecutionException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockedContext mockedContext() {
+        return MockedContext.builder(gitHubJson.id())
+                .comment("/cc @user3", wildFlyBotConfig.githubName());
+    }
+}
@@ -0,0 +1,133 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHCheckRun;
+import org.kohsuke.github.GHCheckRunBuilder;
+import org.kohsuke.github.GHEvent;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockMakers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.PullRequestFormatProcessor.FAILED_FORMAT_COMMENT;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for publishing the results of the format check as a check run.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRCheckRunTest.CheckRunModeProfile.class)
+public class PRCheckRunTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                commit:
+                  enabled: false
+            """;
+
+    private GHCheckRunBuilder checkRunBuilder;
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    public static class CheckRunModeProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.report-mode", "check-run");
+        }
+    }
+
+    @Test
+    void testValidPullRequestCheckRun() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, gitHubJson);
+            checkRunBuilder = mockCheckRunBuilder();
+            Mockito.when(mocks.repository(TEST_REPO).createCheckRun("Format", gitHubJson.commitSHA()))
+                    .thenReturn(checkRunBuilder);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(checkRunBuilder).withStatus(GHCheckRun.Status.COMPLETED);
+                    Mockito.verify(checkRunBuilder).withConclusion(GHCheckRun.Conclusion.SUCCESS);
+                    Mockito.verify(checkRunBuilder).add(ArgumentMatchers.any(GHCheckRunBuilder.Output.class));
+                    Mockito.verify(checkRunBuilder).create();
+                    Mockito.verify(mocks.repository(TEST_REPO), Mockito.never())
+                            .createCommitStatus(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                                    ArgumentMatchers.any(), ArgumentMatchers.eq("Format"));
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never())
+                            .comment(ArgumentMatchers.anyString());
+                });
+    }
+
+    @Test
+    void testInvalidPullRequestCheckRunWithoutComment() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .title(TestConstants.INVALID_TITLE)
+                .build();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, gitHubJson);
+            checkRunBuilder = mockCheckRunBuilder();
+            Mockito.when(mocks.repository(TEST_REPO).createCheckRun("Format", gitHubJson.commitSHA()))
+                    .thenReturn(checkRunBuilder);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(checkRunBuilder).withConclusion(GHCheckRun.Conclusion.FAILURE);
+                    Mockito.verify(checkRunBuilder).create();
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never())
+                            .comment(ArgumentMatchers.anyString());
+                });
+    }
+
+    @Test
+    void testFormatCommentDeletedInCheckRunMode() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .title(TestConstants.INVALID_TITLE)
+                .build();
+        // posted before the bot was switched to the check run mode
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .comment(FAILED_FORMAT_COMMENT.formatted("- Wrong content of the title"), wildFlyBotConfig.githubName());
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext);
+            checkRunBuilder = mockCheckRunBuilder();
+            Mockito.when(mocks.repository(TEST_REPO).createCheckRun("Format", gitHubJson.commitSHA()))
+                    .thenReturn(checkRunBuilder);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(checkRunBuilder).withConclusion(GHCheckRun.Conclusion.FAILURE);
+                    Mockito.verify(mocks.issueComment(0)).delete();
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never())
+                            .comment(ArgumentMatchers.anyString());
+                });
+    }
+
+    private static GHCheckRunBuilder mockCheckRunBuilder() {
+        // the builder is a final class
+        return Mockito.mock(GHCheckRunBuilder.class, Mockito.withSettings()
+                .mockMaker(MockMakers.INLINE)
+                .defaultAnswer(Mockito.RETURNS_SELF));
+    }
+}
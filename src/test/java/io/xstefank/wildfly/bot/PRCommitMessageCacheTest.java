@@ -0,0 +1,172 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedCommit;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHEvent;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_COMMIT_MESSAGE;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for checking only the commits not checked for previous events of a pull request.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRCommitMessageCacheTest.CommitMessageCacheEnabledProfile.class)
+public class PRCommitMessageCacheTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                commit:
+                  enabled: true
+            """;
+
+    public static class CommitMessageCacheEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.commit-message-cache-size", "100");
+        }
+    }
+
+    @Test
+    void testUnchangedCommitsNotListedAgain() throws IOException {
+        String sha = "3b2e8f1a4c5d6e7f8091a2b3c4d5e6f708192a3b";
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(sha)
+                .build();
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .commit(MockedCommit.commit("WFLY-123 Valid commit message").sha(sha));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson);
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never()).listCommits();
+                });
+    }
+
+    @Test
+    void testCommitsListedAgainOnceBaseChanged() throws IOException {
+        String sha = "6e5b1c4d7f8091a2b3c4d5e6f708192a3b4c5d6e";
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(sha)
+                .build();
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .commit(MockedCommit.commit("WFLY-123 Valid commit message").sha(sha));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        GitHubJson retargetedJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(sha)
+                .baseRef("7.x")
+                .build();
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, retargetedJson, mockedContext))
+                .when().payloadFromString(retargetedJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), retargetedJson);
+                    Mockito.verify(mocks.pullRequest(retargetedJson.id())).listCommits();
+                });
+    }
+
+    @Test
+    void testOnlyPushedCommitsFetched() throws IOException {
+        String firstSha = "4c3f9a2b5d6e7f8091a2b3c4d5e6f708192a3b4c";
+        String secondSha = "5d4a0b3c6e7f8091a2b3c4d5e6f708192a3b4c5d";
+        GitHubJson firstPush = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(firstSha)
+                .build();
+        MockedContext firstContext = MockedContext.builder(firstPush.id())
+                .commit(MockedCommit.commit(INVALID_COMMIT_MESSAGE).sha(firstSha));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, firstPush, firstContext))
+                .when().payloadFromString(firstPush.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatFailure(mocks.repository(TEST_REPO), firstPush, "commit"));
+
+        GitHubJson secondPush = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(secondSha)
+                .build();
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, secondPush, MockedContext.builder(secondPush.id()));
+
+            GHCompare.Commit pushedCommit = Mockito.mock(GHCompare.Commit.class);
+            GHCommit.ShortInfo shortInfo = Mockito.mock(GHCommit.ShortInfo.class);
+            Mockito.when(pushedCommit.getSHA1()).thenReturn(secondSha);
+            Mockito.when(pushedCommit.getCommitShortInfo()).thenReturn(shortInfo);
+            Mockito.when(shortInfo.getMessage()).thenReturn("WFLY-123 Valid commit message");
+
+            GHCompare compare = Mockito.mock(GHCompare.class);
+            Mockito.when(compare.getStatus()).thenReturn(GHCompare.Status.ahead);
+            Mockito.when(compare.getTotalCommits()).thenReturn(1);
+            Mockito.when(compare.getCommits()).thenReturn(new GHCompare.Commit[] { pushedCommit });
+            Mockito.when(mocks.repository(TEST_REPO).getCompare(firstSha, secondSha)).thenReturn(compare);
+        })
+                .when().payloadFromString(secondPush.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), secondPush);
+                    Mockito.verify(mocks.pullRequest(secondPush.id()), Mockito.never()).listCommits();
+                });
+    }
+
+    @Test
+    void testCommitsListedAgainAfterForcePush() throws IOException {
+        String firstSha = "7f6c2d5e8091a2b3c4d5e6f708192a3b4c5d6e7f";
+        String forcePushedSha = "8091a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3";
+        GitHubJson firstPush = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(firstSha)
+                .build();
+        MockedContext firstContext = MockedContext.builder(firstPush.id())
+                .commit(MockedCommit.commit(INVALID_COMMIT_MESSAGE).sha(firstSha));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, firstPush, firstContext))
+                .when().payloadFromString(firstPush.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatFailure(mocks.repository(TEST_REPO), firstPush, "commit"));
+
+        GitHubJson forcePush = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(forcePushedSha)
+                .build();
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, forcePush, MockedContext.builder(forcePush.id())
+                    .commit(MockedCommit.commit("WFLY-123 Valid commit message").sha(forcePushedSha)));
+
+            // the remembered head is not an ancestor of the force pushed one
+            GHCompare compare = Mockito.mock(GHCompare.class);
+            Mockito.when(compare.getStatus()).thenReturn(GHCompare.Status.diverged);
+            Mockito.when(mocks.repository(TEST_REPO).getCompare(firstSha, forcePushedSha)).thenReturn(compare);
+        })
+                .when().payloadFromString(forcePush.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), forcePush);
+                    Mockito.verify(mocks.pullRequest(forcePush.id())).listCommits();
+                });
+    }
+}
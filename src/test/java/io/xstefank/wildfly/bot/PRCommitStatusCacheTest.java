@@ -0,0 +1,109 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppMockito;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHCommitStatus;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.PagedIterable;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for skipping commit statuses the commit already has.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRCommitStatusCacheTest.CommitStatusCacheEnabledProfile.class)
+public class PRCommitStatusCacheTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                commit:
+                  enabled: false
+            """;
+
+    public static class CommitStatusCacheEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.commit-status-cache-size", "100",
+                    "wildfly-bot.seed-commit-statuses", "true");
+        }
+    }
+
+    @Test
+    void testSameStatusPostedOnce() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("1f0e6c1d3d8a3e5c6b5a4f7e2d1c0b9a8f7e6d5c")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Mockito.verify(mocks.repository(TEST_REPO), Mockito.never())
+                        .createCommitStatus(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                                ArgumentMatchers.any(), ArgumentMatchers.eq("Format")));
+    }
+
+    @Test
+    void testChangedStatusPostedAgain() throws IOException {
+        String sha = "2a1f7d2e4e9b4f6d7c6b5a8f3e2d1c0bab9f8e7d";
+        GitHubJson validPullRequest = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(sha)
+                .build();
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, validPullRequest))
+                .when().payloadFromString(validPullRequest.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), validPullRequest));
+
+        GitHubJson invalidPullRequest = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(sha)
+                .title(TestConstants.INVALID_TITLE)
+                .build();
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, invalidPullRequest))
+                .when().payloadFromString(invalidPullRequest.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatFailure(mocks.repository(TEST_REPO), invalidPullRequest, "title"));
+    }
+
+    @Test
+    void testStatusPostedBeforeRestartNotPostedAgain() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("3b2e8c3f5fac5a7e8d7c6b9a4f3e2d1cbca0f9e8")
+                .build();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, gitHubJson);
+            GHCommitStatus status = Mockito.mock(GHCommitStatus.class);
+            Mockito.when(status.getContext()).thenReturn("Format");
+            Mockito.when(status.getState()).thenReturn(GHCommitState.SUCCESS);
+            Mockito.when(status.getDescription()).thenReturn("Valid");
+            PagedIterable<GHCommitStatus> statuses = GitHubAppMockito.mockPagedIterable(status);
+            Mockito.when(mocks.repository(TEST_REPO).listCommitStatuses(gitHubJson.commitSHA())).thenReturn(statuses);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Mockito.verify(mocks.repository(TEST_REPO), Mockito.never())
+                        .createCommitStatus(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+                                ArgumentMatchers.any(), ArgumentMatchers.eq("Format")));
+    }
+}
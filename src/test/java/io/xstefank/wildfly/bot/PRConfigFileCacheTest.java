@@ -0,0 +1,86 @@
+package io.xstefank.wildfly.bot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+import static io.xstefank.wildfly.bot.utils.TestConstants.VALID_PR_TEMPLATE_JSON;
+
+/**
+ * Tests for caching of the parsed configuration files.
+ */
+@QuarkusTest
+@GitHubAppTest
+public class PRConfigFileCacheTest {
+
+    private static final String wildflyConfigFile = """
+            # %s
+            wildfly:
+              rules:
+                - id: "Title"
+                  title: "WFLY"
+                  notify: [user1]
+            """;
+
+    private static GitHubJson gitHubJson;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setupTests() throws IOException {
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON).build();
+    }
+
+    @Test
+    void testUnchangedConfigFileParsedOnce() throws IOException {
+        String configFile = wildflyConfigFile.formatted(UUID.randomUUID());
+        double misses = cacheGets("miss");
+        double hits = cacheGets("hit");
+
+        for (int i = 0; i < 2; i++) {
+            given().github(mocks -> Util.mockRepo(mocks, configFile, gitHubJson))
+                    .when().payloadFromString(gitHubJson.jsonString())
+                    .event(GHEvent.PULL_REQUEST)
+                    .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+        }
+
+        // every opened event fetches the file for the queued processors and resolves the @ConfigFile parameter
+        // of PullRequestFormatProcessor#postDependabotInfo, both through the cache
+        Assertions.assertEquals(misses + 1, cacheGets("miss"));
+        Assertions.assertEquals(hits + 3, cacheGets("hit"));
+    }
+
+    @Test
+    void testChangedConfigFileParsedAgain() throws IOException {
+        double misses = cacheGets("miss");
+
+        for (int i = 0; i < 2; i++) {
+            String configFile = wildflyConfigFile.formatted(UUID.randomUUID());
+            given().github(mocks -> Util.mockRepo(mocks, configFile, gitHubJson))
+                    .when().payloadFromString(gitHubJson.jsonString())
+                    .event(GHEvent.PULL_REQUEST)
+                    .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+        }
+
+        Assertions.assertEquals(misses + 2, cacheGets("miss"));
+    }
+
+    private double cacheGets(String result) {
+        Counter counter = meterRegistry.find("cache.gets").tag("cache", "config-files").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
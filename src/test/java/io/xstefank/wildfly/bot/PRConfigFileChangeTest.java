@@ -3,10 +3,11 @@ package io.xstefank.wildfly.bot;
 import io.quarkiverse.githubapp.testing.GitHubAppTest;
 import io.quarkus.test.junit.QuarkusTest;
 import io.xstefank.wildfly.bot.model.RuntimeConstants;
+import io.xstefank.wildfly.bot.utils.Action;
 import io.xstefank.wildfly.bot.utils.GitHubJson;
 import io.xstefank.wildfly.bot.utils.MockedContext;
 import org.apache.commons.io.IOUtils;
-import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kohsuke.github.GHCommitState;
 import org.kohsuke.github.GHContent;
@@ -31,10 +32,11 @@ import static org.mockito.Mockito.when;
 @GitHubAppTest
 public class PRConfigFileChangeTest {
 
-    private static GitHubJson gitHubJson;
+    private GitHubJson gitHubJson;
 
-    @BeforeAll
-    static void setUpGitHubJson() throws IOException {
+    // the payloads share the static JSON of GitHubJson, so each test builds its own
+    @BeforeEach
+    void setUpGitHubJson() throws IOException {
         gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON).build();
     }
 
@@ -111,4 +113,37 @@ public class PRConfigFileChangeTest {
                     verifyNoMoreInteractions(mocks.pullRequest(gitHubJson.id()));
                 });
     }
+
+    @Test
+    void testEditedPullRequestValidatesFile() throws IOException {
+        GitHubJson editedJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .action(Action.EDITED)
+                .build();
+        given().github(mocks -> {
+            GHRepository repo = mocks.repository(TEST_REPO);
+            GHContent mockGHContent = mock(GHContent.class);
+            when(repo.getFileContent(".github/" + RuntimeConstants.CONFIG_FILE_NAME, editedJson.commitSHA()))
+                    .thenReturn(mockGHContent);
+            when(mockGHContent.read()).thenReturn(IOUtils.toInputStream("""
+                    wildfly:
+                      rules:
+                        - title: "test"
+                          id: "some test id"
+                      emails:
+                        - foo@bar.baz""",
+                    "UTF-8"));
+
+            MockedContext.builder(editedJson.id())
+                    .prFiles(".github/wildfly-bot.yml")
+                    .mock(mocks);
+        })
+                .when().payloadFromString(editedJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    // the edited event may replace a queued synchronize event, so the new head is validated
+                    verify(mocks.pullRequest(editedJson.id())).listFiles();
+                    Mockito.verify(mocks.repository(TEST_REPO)).createCommitStatus(editedJson.commitSHA(),
+                            GHCommitState.SUCCESS, "", "Valid", "Configuration File");
+                });
+    }
 }
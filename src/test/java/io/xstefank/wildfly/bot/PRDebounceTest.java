@@ -0,0 +1,171 @@
+package io.xstefank.wildfly.bot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.util.PullRequestEventCoalescer;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRepository;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for debouncing of the pull request events. The debounce window is long enough for the events of a test
+ * to be sent within it.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRDebounceTest.DebounceEnabledProfile.class)
+public class PRDebounceTest {
+
+    private static final long DEBOUNCE_WINDOW_MILLIS = 2000;
+    private static final long PROCESSING_TIMEOUT_MILLIS = 10_000;
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - id: "Label rule"
+                  title: WFLY
+                  labels: [label1]
+            """;
+
+    @Inject
+    PullRequestEventCoalescer coalescer;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public static class DebounceEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.pull-request-debounce", DEBOUNCE_WINDOW_MILLIS + "ms");
+        }
+    }
+
+    @Test
+    public void testEventQueuedUntilDebounceWindowElapses() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    // nothing is requested from GitHub, not even the configuration file, until the event is processed
+                    verifyNotProcessed(mocks.repository(TEST_REPO), mocks.pullRequest(gitHubJson.id()));
+                    Mockito.verify(mocks.repository(TEST_REPO), Mockito.never())
+                            .getFileContent(ArgumentMatchers.anyString());
+                    Mockito.verify(mocks.repository(TEST_REPO), Mockito.never())
+                            .getFileContent(ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.timeout(PROCESSING_TIMEOUT_MILLIS))
+                            .addLabels("label1");
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson);
+                });
+    }
+
+    @Test
+    public void testEventSupersededByNewerEventIsSkipped() throws IOException {
+        String supersededSha = "1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a0b";
+        GitHubJson supersededJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA(supersededSha)
+                .build();
+        double coalesced = coalesced();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, supersededJson))
+                .when().payloadFromString(supersededJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> verifyNotProcessed(mocks.repository(TEST_REPO),
+                        mocks.pullRequest(supersededJson.id())));
+
+        // the payloads share the template, so the newer one is built once the superseded one was sent
+        GitHubJson latestJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a0b1c")
+                .build();
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, latestJson))
+                .when().payloadFromString(latestJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    verifyNotProcessed(mocks.repository(TEST_REPO), mocks.pullRequest(latestJson.id()));
+
+                    Mockito.verify(mocks.pullRequest(latestJson.id()), Mockito.timeout(PROCESSING_TIMEOUT_MILLIS))
+                            .addLabels("label1");
+                    Util.verifyFormatSuccess(mocks.repository(TEST_REPO), latestJson);
+                    Mockito.verify(mocks.repository(TEST_REPO), Mockito.never()).createCommitStatus(
+                            ArgumentMatchers.eq(supersededSha), ArgumentMatchers.any(),
+                            ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+                });
+
+        Assertions.assertEquals(coalesced + 1, coalesced());
+    }
+
+    @Test
+    public void testEventsOfPullRequestProcessedOneAtATime() throws IOException, InterruptedException {
+        String key = PullRequestEventCoalescer.key(TEST_REPO, 1000);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondProcessed = new CountDownLatch(1);
+        AtomicBoolean firstInProgress = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        coalescer.submit(key, () -> {
+            firstInProgress.set(true);
+            firstStarted.countDown();
+            await(releaseFirst);
+            firstInProgress.set(false);
+        }, () -> Assertions.fail("The event in progress must not be superseded"));
+        Assertions.assertTrue(firstStarted.await(PROCESSING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        coalescer.submit(key, () -> {
+            overlapped.set(firstInProgress.get());
+            secondProcessed.countDown();
+        }, () -> Assertions.fail("The latest event must not be superseded"));
+
+        // the window of the second event elapses while the first event is processed
+        Assertions.assertFalse(secondProcessed.await(DEBOUNCE_WINDOW_MILLIS + 1000, TimeUnit.MILLISECONDS));
+
+        releaseFirst.countDown();
+        Assertions.assertTrue(secondProcessed.await(PROCESSING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertFalse(overlapped.get());
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedIOException {
+        try {
+            latch.await(PROCESSING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static void verifyNotProcessed(GHRepository repository, GHPullRequest pullRequest) throws IOException {
+        Mockito.verify(repository, Mockito.never()).createCommitStatus(
+                ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.anyString(),
+                ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+        Mockito.verify(pullRequest, Mockito.never()).listFiles();
+        Mockito.verify(pullRequest, Mockito.never()).addLabels(ArgumentMatchers.any(String[].class));
+    }
+
+    private double coalesced() {
+        Counter counter = meterRegistry.find("pull_request.events.coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,77 @@
+package io.xstefank.wildfly.bot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.util.DeliveryRecorder;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for recording the webhook deliveries for the load test harness.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRDeliveryRecordingTest.RecordingEnabledProfile.class)
+public class PRDeliveryRecordingTest {
+
+    private static final Path RECORDING = Path.of("target", "recording-test");
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                title:
+                  enabled: true
+            """;
+
+    public static class RecordingEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.record-directory", RECORDING.toString());
+        }
+    }
+
+    @Test
+    void testDeliveryRecorded() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("8a7f6e5d4c3b2a1f0e9d8c7b6a5f4e3d2c1b0a9f")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> deliveries;
+        try (Stream<Path> files = Files.list(RECORDING.resolve(DeliveryRecorder.DELIVERIES))) {
+            deliveries = files.map(file -> {
+                try {
+                    return objectMapper.readTree(file.toFile());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+        Assertions.assertTrue(deliveries.stream().anyMatch(delivery -> "pull_request".equals(delivery.get("event").textValue())
+                && gitHubJson.commitSHA()
+                        .equals(delivery.get("payload").get("pull_request").get("head").get("sha").textValue())));
+    }
+}
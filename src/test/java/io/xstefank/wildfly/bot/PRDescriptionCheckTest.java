@@ -155,6 +155,29 @@ public class PRDescriptionCheckTest {
                 });
     }
 
+    @Test
+    void testNoEmptyLineAfterTrailingLineBreak() throws IOException {
+        wildflyConfigFile = """
+                wildfly:
+                  format:
+                    description:
+                      regexes:
+                        - pattern: "^$"
+                """;
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .description("First line of description\n\n")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHRepository repo = mocks.repository(TEST_REPO);
+                    Util.verifyFormatFailure(repo, gitHubJson, "description");
+                    Util.verifyFailedFormatComment(mocks, gitHubJson, "- Invalid description content");
+                });
+    }
+
     @Test
     void testMultipleRegexesFirstPatternHit() throws IOException {
         wildflyConfigFile = """
@@ -257,4 +280,60 @@ public class PRDescriptionCheckTest {
                     Util.verifyFormatSuccess(repo, gitHubJson);
                 });
     }
+
+    @Test
+    void testAnchoredPatternsMatchedOnEachLine() throws IOException {
+        wildflyConfigFile = """
+                wildfly:
+                  format:
+                    description:
+                      message: Default fail message
+                      regexes:
+                        - pattern: "^https://issues.redhat.com/browse/WFLY-\\\\d+$"
+                          message: "The PR description must contain a link to the JIRA issue"
+                        - pattern: "^Upstream PR: \\\\S+$"
+                          message: "The PR description must contain a link to the upstream PR"
+                """;
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .description("First line of description\r\nhttps://issues.redhat.com/browse/WFLY-666\r\n"
+                        + "Upstream PR: https://github.com/wildfly/wildfly/pull/1\r\n")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHRepository repo = mocks.repository(TEST_REPO);
+                    Util.verifyFormatSuccess(repo, gitHubJson);
+                });
+    }
+
+    @Test
+    void testPatternNotMatchedAcrossLines() throws IOException {
+        wildflyConfigFile = """
+                wildfly:
+                  format:
+                    description:
+                      message: Default fail message
+                      regexes:
+                        - pattern: "JIRA:\\\\s+https://issues.redhat.com/browse/WFLY-\\\\d+"
+                          message: "The PR description must contain a link to the JIRA issue"
+                """;
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .description("""
+                        JIRA:
+                        https://issues.redhat.com/browse/WFLY-666
+                        """)
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHRepository repo = mocks.repository(TEST_REPO);
+                    Util.verifyFormatFailure(repo, gitHubJson, "description");
+                    Util.verifyFailedFormatComment(mocks, gitHubJson,
+                            "- The PR description must contain a link to the JIRA issue");
+                });
+    }
 }
@@ -13,6 +13,7 @@ import org.kohsuke.github.GHCommitState;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHEvent;
 import org.kohsuke.github.GHRepository;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import java.io.IOException;
@@ -57,7 +58,8 @@ public class PRDirectoriesVerificationTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
-                    Mockito.verify(repo).getDirectoryContent("src");
+                    Mockito.verify(repo).getTreeRecursive(MockedContext.DEFAULT_BRANCH_SHA, 1);
+                    Mockito.verify(repo, Mockito.never()).getDirectoryContent(ArgumentMatchers.anyString());
                     Mockito.verify(repo).createCommitStatus(gitHubJson.commitSHA(),
                             GHCommitState.SUCCESS, "", "Valid", "Configuration File");
                 });
@@ -85,7 +87,8 @@ public class PRDirectoriesVerificationTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
-                    Mockito.verify(repo).getDirectoryContent("src");
+                    Mockito.verify(repo).getTreeRecursive(MockedContext.DEFAULT_BRANCH_SHA, 1);
+                    Mockito.verify(repo, Mockito.never()).getDirectoryContent(ArgumentMatchers.anyString());
                     Mockito.verify(repo).createCommitStatus(gitHubJson.commitSHA(),
                             GHCommitState.ERROR, "", "Rule is missing an id or multiple rules have the same id.",
                             "Configuration File");
@@ -115,7 +118,8 @@ public class PRDirectoriesVerificationTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
-                    Mockito.verify(repo).getDirectoryContent("pom.xml");
+                    Mockito.verify(repo).getTreeRecursive(MockedContext.DEFAULT_BRANCH_SHA, 1);
+                    Mockito.verify(repo, Mockito.never()).getDirectoryContent(ArgumentMatchers.anyString());
                 });
     }
 
@@ -142,8 +146,8 @@ public class PRDirectoriesVerificationTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
-                    Mockito.verify(repo).getDirectoryContent("src/main");
-                    Mockito.verify(repo).getDirectoryContent("src/test");
+                    Mockito.verify(repo).getTreeRecursive(MockedContext.DEFAULT_BRANCH_SHA, 1);
+                    Mockito.verify(repo, Mockito.never()).getDirectoryContent(ArgumentMatchers.anyString());
                     Mockito.verify(repo).createCommitStatus(gitHubJson.commitSHA(),
                             GHCommitState.ERROR, "", "Rule is missing an id or multiple rules have the same id.",
                             "Configuration File");
@@ -176,10 +180,42 @@ public class PRDirectoriesVerificationTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHRepository repo = mocks.repository("xstefank/wildfly");
-                    Mockito.verify(repo).getDirectoryContent("src/main");
-                    Mockito.verify(repo).getDirectoryContent("src/main/resources/application.properties");
+                    Mockito.verify(repo).getTreeRecursive(MockedContext.DEFAULT_BRANCH_SHA, 1);
+                    Mockito.verify(repo, Mockito.never()).getDirectoryContent(ArgumentMatchers.anyString());
                     Mockito.verify(repo).createCommitStatus(gitHubJson.commitSHA(),
                             GHCommitState.SUCCESS, "", "Valid", "Configuration File");
                 });
     }
+
+    @Test
+    public void truncatedTreeTest() throws IOException {
+        mockedContext = MockedContext.builder(gitHubJson.id())
+                .prFiles(".github/wildfly-bot.yml")
+                .repoDirectories("src", "src/main", "src/main/java")
+                .truncatedTree();
+        given().github(mocks -> {
+            mockedContext.mock(mocks);
+            GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
+            GHContent mockGHContent = mock(GHContent.class);
+            when(repo.getFileContent(".github/" + RuntimeConstants.CONFIG_FILE_NAME, gitHubJson.commitSHA()))
+                    .thenReturn(mockGHContent);
+            when(mockGHContent.read()).thenReturn(IOUtils.toInputStream("""
+                    wildfly:
+                      rules:
+                        - id: "id"
+                          directories: [src/main, src/test]""",
+                    "UTF-8"));
+
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHRepository repo = mocks.repository(TestConstants.TEST_REPO);
+                    Mockito.verify(repo).getDirectoryContent("src/main");
+                    Mockito.verify(repo).getDirectoryContent("src/test");
+                    Mockito.verify(repo).createCommitStatus(gitHubJson.commitSHA(),
+                            GHCommitState.ERROR, "", "Rule is missing an id or multiple rules have the same id.",
+                            "Configuration File");
+                });
+    }
 }
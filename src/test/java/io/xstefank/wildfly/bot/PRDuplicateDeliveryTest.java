@@ -0,0 +1,106 @@
+package io.xstefank.wildfly.bot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHEvent;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for skipping pull request events delivered more than once.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRDuplicateDeliveryTest.DeliveryHistoryEnabledProfile.class)
+public class PRDuplicateDeliveryTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                commit:
+                  enabled: false
+            """;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public static class DeliveryHistoryEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.delivery-history-size", "100");
+        }
+    }
+
+    @Test
+    void testRedeliveredEventSkipped() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("5d4c3b2a1f0e9d8c7b6a5f4e3d2c1b0a9f8e7d6c")
+                .build();
+        double duplicates = duplicates();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TEST_REPO), Mockito.never()).createCommitStatus(
+                            ArgumentMatchers.anyString(), ArgumentMatchers.any(GHCommitState.class),
+                            ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never()).listFiles();
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never()).listComments();
+                });
+
+        Assertions.assertEquals(duplicates + 1, duplicates());
+    }
+
+    @Test
+    void testEventOfNewHeadProcessed() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("6e5d4c3b2a1f0e9d8c7b6a5f4e3d2c1b0a9f8e7d")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        // the payloads share the template, so the new head is set once the first payload was sent
+        GitHubJson newHeadJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .commitSHA("7f6e5d4c3b2a1f0e9d8c7b6a5f4e3d2c1b0a9f8e")
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, newHeadJson))
+                .when().payloadFromString(newHeadJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), newHeadJson));
+    }
+
+    private double duplicates() {
+        Timer timer = meterRegistry.find(ProcessorMetrics.PROCESSING)
+                .tags("processor", "dispatcher", "repository", TEST_REPO, "outcome", ProcessorMetrics.DUPLICATE)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
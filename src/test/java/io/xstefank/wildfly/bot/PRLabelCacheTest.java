@@ -0,0 +1,153 @@
+package io.xstefank.wildfly.bot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.util.LabelCache;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.GHRepository;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+
+/**
+ * Tests for caching of the repository labels.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRLabelCacheTest.LabelCacheEnabledProfile.class)
+public class PRLabelCacheTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - id: "Label rule"
+                  title: WFLY
+                  labels: [label1]
+            """;
+
+    private static GitHubJson gitHubJson;
+    private MockedContext mockedContext;
+
+    @Inject
+    LabelCache labelCache;
+
+    public static class LabelCacheEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.label-cache-ttl", "1h");
+        }
+    }
+
+    @BeforeAll
+    static void setupTests() throws IOException {
+        gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+    }
+
+    @BeforeEach
+    void setup() {
+        labelCache.invalidateAll();
+        mockedContext = MockedContext.builder(gitHubJson.id())
+                .labels(Set.of("label1"));
+    }
+
+    @Test
+    public void testLabelsListedOnceForRepeatedEvents() throws IOException {
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TestConstants.TEST_REPO)).listLabels();
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).addLabels("label1");
+                });
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TestConstants.TEST_REPO), Mockito.never()).listLabels();
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).addLabels("label1");
+                });
+    }
+
+    @Test
+    public void testLabelCreatedByBotIsCached() throws IOException {
+        mockedContext = MockedContext.builder(gitHubJson.id());
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TestConstants.TEST_REPO))
+                            .createLabel(ArgumentMatchers.eq("label1"), ArgumentMatchers.anyString());
+                });
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHRepository repository = mocks.repository(TestConstants.TEST_REPO);
+                    Mockito.verify(repository, Mockito.never()).listLabels();
+                    Mockito.verify(repository, Mockito.never())
+                            .createLabel(ArgumentMatchers.anyString(), ArgumentMatchers.anyString());
+                });
+    }
+
+    @Test
+    public void testLabelEventInvalidatesCachedLabels() throws IOException {
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TestConstants.TEST_REPO)).listLabels();
+                });
+
+        given().github(mocks -> {
+        })
+                .when().payloadFromString(labelCreatedPayload("label2"))
+                .event(GHEvent.LABEL)
+                .then().github(mocks -> {
+                });
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.repository(TestConstants.TEST_REPO)).listLabels();
+                });
+    }
+
+    private static String labelCreatedPayload(String name) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode pullRequestPayload = objectMapper
+                .readTree(new File("src/test/resources/" + TestConstants.VALID_PR_TEMPLATE_JSON));
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("action", "created");
+        ObjectNode label = payload.putObject("label");
+        label.put("id", 1L);
+        label.put("name", name);
+        label.put("color", "ffffff");
+        payload.set("repository", pullRequestPayload.get("repository"));
+        payload.set("sender", pullRequestPayload.get("sender"));
+        payload.set("installation", pullRequestPayload.get("installation"));
+        return payload.toPrettyString();
+    }
+}
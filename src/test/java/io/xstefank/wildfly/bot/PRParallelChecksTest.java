@@ -0,0 +1,90 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.Util;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.GHPullRequest;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.PullRequestFormatProcessor.FAILED_FORMAT_COMMENT;
+import static io.xstefank.wildfly.bot.model.RuntimeConstants.DEFAULT_COMMIT_MESSAGE;
+import static io.xstefank.wildfly.bot.model.RuntimeConstants.DEFAULT_TITLE_MESSAGE;
+import static io.xstefank.wildfly.bot.model.RuntimeConstants.PROJECT_PATTERN_REGEX;
+import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_COMMIT_MESSAGE;
+import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_DESCRIPTION;
+import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_TITLE;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+import static io.xstefank.wildfly.bot.utils.TestConstants.VALID_PR_TEMPLATE_JSON;
+
+/**
+ * Tests for the format checks run concurrently.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRParallelChecksTest.ParallelChecksProfile.class)
+public class PRParallelChecksTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              format:
+                description:
+                     regexes:
+                       - pattern: "JIRA:\\\\s+https://issues.redhat.com/browse/WFLY-\\\\d+|https://issues.redhat.com/browse/WFLY-\\\\d+"
+                         message: "The PR description must contain a link to the JIRA issue"
+            """;
+    private static GitHubJson gitHubJson;
+    private MockedContext mockedContext;
+
+    public static class ParallelChecksProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.parallel-checks", "true");
+        }
+    }
+
+    @Test
+    void testAllChecksPass() throws IOException {
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON).build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+    }
+
+    @Test
+    void testAllChecksFail() throws IOException {
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .title(INVALID_TITLE)
+                .description(INVALID_DESCRIPTION)
+                .build();
+        mockedContext = MockedContext.builder(gitHubJson.id())
+                .commit(INVALID_COMMIT_MESSAGE);
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Util.verifyFormatFailure(mocks.repository(TEST_REPO), gitHubJson, "commit, description, title");
+                    GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
+                    Mockito.verify(mockedPR).comment(FAILED_FORMAT_COMMENT.formatted(Stream.of(
+                            DEFAULT_COMMIT_MESSAGE.formatted(PROJECT_PATTERN_REGEX.formatted("WFLY")),
+                            "The PR description must contain a link to the JIRA issue",
+                            DEFAULT_TITLE_MESSAGE.formatted(PROJECT_PATTERN_REGEX.formatted("WFLY")))
+                            .map("- %s"::formatted)
+                            .collect(Collectors.joining("\n\n"))));
+                });
+    }
+}
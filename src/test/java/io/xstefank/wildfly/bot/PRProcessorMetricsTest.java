@@ -0,0 +1,119 @@
+package io.xstefank.wildfly.bot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.xstefank.wildfly.bot.util.ProcessorMetrics;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHCommitState;
+import org.kohsuke.github.GHEvent;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for the metrics of the processors, the format checks and the rules.
+ */
+@QuarkusTest
+@GitHubAppTest
+public class PRProcessorMetricsTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - id: "metrics-title"
+                  title: "WFLY"
+                  notify: [user1]
+                - id: "metrics-directory"
+                  directories: [src]
+                  notify: [user2]
+              format:
+                commit:
+                  enabled: false
+            """;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testProcessorsChecksAndRulesRecorded() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .prFiles("src/main/java/Main.java")
+                .users("user1", "user2");
+        double formatEvents = processed("format");
+        double ruleEvents = processed("rule");
+        double titleChecks = checks("title", "passed");
+        double titleMatches = ruleMatches("metrics-title", "title-body");
+        double directoryMatches = ruleMatches("metrics-directory", "directory");
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        Assertions.assertEquals(formatEvents + 1, processed("format"));
+        Assertions.assertEquals(ruleEvents + 1, processed("rule"));
+        Assertions.assertEquals(titleChecks + 1, checks("title", "passed"));
+        Assertions.assertEquals(titleMatches + 1, ruleMatches("metrics-title", "title-body"));
+        Assertions.assertEquals(directoryMatches + 1, ruleMatches("metrics-directory", "directory"));
+    }
+
+    @Test
+    void testSkippedEventsRecordedWithTheirOutcome() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .draft();
+        double formatEvents = processed("format");
+        double skippedFormatEvents = processed("format", ProcessorMetrics.SKIPPED);
+        double skippedRuleEvents = processed("rule", ProcessorMetrics.SKIPPED);
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Mockito.verify(mocks.repository(TEST_REPO), Mockito.never()).createCommitStatus(
+                        ArgumentMatchers.anyString(), ArgumentMatchers.any(GHCommitState.class),
+                        ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString()));
+
+        Assertions.assertEquals(formatEvents, processed("format"));
+        Assertions.assertEquals(skippedFormatEvents + 1, processed("format", ProcessorMetrics.SKIPPED));
+        Assertions.assertEquals(skippedRuleEvents + 1, processed("rule", ProcessorMetrics.SKIPPED));
+    }
+
+    private double processed(String processor) {
+        return processed(processor, ProcessorMetrics.SUCCESS);
+    }
+
+    private double processed(String processor, String outcome) {
+        Timer timer = meterRegistry.find(ProcessorMetrics.PROCESSING)
+                .tags("processor", processor, "repository", TEST_REPO, "action", "opened", "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double checks(String check, String result) {
+        Timer timer = meterRegistry.find(ProcessorMetrics.CHECK)
+                .tags("check", check, "repository", TEST_REPO, "result", result)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double ruleMatches(String rule, String match) {
+        Counter counter = meterRegistry.find(ProcessorMetrics.RULE_MATCHES)
+                .tags("rule", rule, "repository", TEST_REPO, "match", match)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
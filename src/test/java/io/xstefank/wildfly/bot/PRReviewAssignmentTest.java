@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.kohsuke.github.GHEvent;
 import org.kohsuke.github.GHPerson;
 import org.kohsuke.github.GHUser;
+import org.kohsuke.github.HttpException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
@@ -112,7 +113,7 @@ public class PRReviewAssignmentTest {
                     Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never())
                             .comment(ArgumentMatchers.anyString());
                     ArgumentCaptor<List<GHUser>> captor = ArgumentCaptor.forClass(List.class);
-                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.times(2)).requestReviewers(captor.capture());
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).requestReviewers(captor.capture());
                     List<GHUser> requestedReviewers = captor.getAllValues().stream().flatMap(List::stream).toList();
                     Set<String> requestedReviewersLogins = requestedReviewers.stream().map(GHUser::getLogin)
                             .collect(Collectors.toSet());
@@ -149,4 +150,51 @@ public class PRReviewAssignmentTest {
                             TEST_REPO, gitHubJson.number(), List.of("user2")));
                 });
     }
+
+    @Test
+    public void testRejectedReviewerDoesNotPreventOtherReviewAssignments() throws IOException {
+        String wildflyConfigFile = """
+                wildfly:
+                  rules:
+                    - id: "test"
+                      directories: [src]
+                      notify: [user1, user2, user3]
+                  format:
+                    title:
+                      enabled: false
+                    commit:
+                      enabled: false
+                  emails:
+                    - foo@bar.baz
+                """;
+        mockedContext = MockedContext.builder(gitHubJson.id())
+                .prFiles("src/main/java/resource/application.properties")
+                .users("user1", "user2", "user3");
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext);
+            Mockito.doThrow(new HttpException("Reviews may only be requested from collaborators", 422, null, null))
+                    .when(mocks.pullRequest(gitHubJson.id()))
+                    .requestReviewers(ArgumentMatchers.argThat(
+                            users -> users.stream().anyMatch(user -> user.getLogin().equals("user2"))));
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    ArgumentCaptor<List<GHUser>> captor = ArgumentCaptor.forClass(List.class);
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.atLeastOnce())
+                            .requestReviewers(captor.capture());
+                    Assertions.assertEquals(captor.getAllValues().get(0).size(), 3);
+                    Set<String> requestedReviewersLogins = captor.getAllValues().stream()
+                            .filter(users -> users.stream().noneMatch(user -> user.getLogin().equals("user2")))
+                            .flatMap(List::stream)
+                            .map(GHUser::getLogin)
+                            .collect(Collectors.toSet());
+                    Assertions.assertEquals(requestedReviewersLogins, Set.of("user1", "user3"));
+
+                    List<Mail> sent = mailbox.getMailsSentTo("foo@bar.baz");
+                    Assertions.assertEquals(sent.size(), 1);
+                    Assertions.assertEquals(sent.get(0).getText(), GithubProcessor.COLLABORATOR_MISSING_BODY.formatted(
+                            TEST_REPO, gitHubJson.number(), List.of("user2")));
+                });
+    }
 }
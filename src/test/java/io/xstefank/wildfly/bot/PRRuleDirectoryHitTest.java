@@ -2,6 +2,7 @@ package io.xstefank.wildfly.bot;
 
 import io.quarkiverse.githubapp.testing.GitHubAppTest;
 import io.quarkus.test.junit.QuarkusTest;
+import io.xstefank.wildfly.bot.utils.Action;
 import io.xstefank.wildfly.bot.utils.GitHubJson;
 import io.xstefank.wildfly.bot.utils.MockedContext;
 import io.xstefank.wildfly.bot.utils.Util;
@@ -66,9 +67,9 @@ public class PRRuleDirectoryHitTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listFiles();
+                    Mockito.verify(mockedPR).listFiles();
                     Mockito.verify(mocks.pullRequest(gitHubJson.id())).requestReviewers(ArgumentMatchers.anyList());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listComments();
+                    Mockito.verify(mockedPR).listComments();
                 });
     }
 
@@ -93,14 +94,14 @@ public class PRRuleDirectoryHitTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listFiles();
+                    Mockito.verify(mockedPR).listFiles();
                     ArgumentCaptor<List<GHUser>> captor = ArgumentCaptor.forClass(List.class);
                     Mockito.verify(mocks.pullRequest(gitHubJson.id())).requestReviewers(captor.capture());
                     Assertions.assertEquals(captor.getValue().size(), 1);
                     MatcherAssert.assertThat(captor.getValue().stream()
                             .map(GHPerson::getLogin)
                             .toList(), Matchers.containsInAnyOrder("7125767235"));
-                    Mockito.verify(mockedPR, Mockito.times(2)).listComments();
+                    Mockito.verify(mockedPR).listComments();
                 });
     }
 
@@ -125,14 +126,14 @@ public class PRRuleDirectoryHitTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listFiles();
+                    Mockito.verify(mockedPR).listFiles();
                     ArgumentCaptor<List<GHUser>> captor = ArgumentCaptor.forClass(List.class);
                     Mockito.verify(mocks.pullRequest(gitHubJson.id())).requestReviewers(captor.capture());
                     Assertions.assertEquals(captor.getValue().size(), 1);
                     MatcherAssert.assertThat(captor.getValue().stream()
                             .map(GHPerson::getLogin)
                             .toList(), Matchers.containsInAnyOrder("7125767235"));
-                    Mockito.verify(mockedPR, Mockito.times(2)).listComments();
+                    Mockito.verify(mockedPR).listComments();
                 });
     }
 
@@ -156,10 +157,78 @@ public class PRRuleDirectoryHitTest {
                 .event(GHEvent.PULL_REQUEST)
                 .then().github(mocks -> {
                     GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listFiles();
+                    Mockito.verify(mockedPR).listFiles();
                     Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never())
                             .requestReviewers(ArgumentMatchers.any());
-                    Mockito.verify(mockedPR, Mockito.times(2)).listComments();
+                    Mockito.verify(mockedPR).listComments();
+                });
+    }
+
+    @Test
+    void testDirectoriesOfMultipleRulesListFilesOnce() throws IOException {
+        wildflyConfigFile = """
+                wildfly:
+                  rules:
+                    - id: "Directory Test"
+                      directories:
+                       - appclient
+                      notify: [7125767235]
+                    - id: "Subdirectory Test"
+                      directories:
+                       - testsuite/integration/
+                       - microprofile
+                      notify: [0979986727]
+                    - id: "No Hit Test"
+                      directories:
+                       - transactions
+                      notify: [1234567890]
+                """;
+        mockedContext = MockedContext.builder(gitHubJson.id())
+                .users("7125767235", "0979986727", "1234567890")
+                .prFiles("appclient/test.txt",
+                        "microprofile/health-smallrye/pom.xml",
+                        "testsuite/integration/basic/pom.xml");
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
+                    Mockito.verify(mockedPR).listFiles();
+                    ArgumentCaptor<List<GHUser>> captor = ArgumentCaptor.forClass(List.class);
+                    Mockito.verify(mockedPR).requestReviewers(captor.capture());
+                    MatcherAssert.assertThat(captor.getAllValues().stream()
+                            .flatMap(List::stream)
+                            .map(GHPerson::getLogin)
+                            .toList(), Matchers.containsInAnyOrder("7125767235", "0979986727"));
+                });
+    }
+
+    @Test
+    void testDirectoriesOfRuleMatchedByTitleListedOnceOnEdit() throws IOException {
+        GitHubJson editedJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .action(Action.EDITED)
+                .build();
+        wildflyConfigFile = """
+                wildfly:
+                  rules:
+                    - id: "Title And Directory Test"
+                      title: "Title"
+                      directories:
+                       - appclient
+                      labels: [appclient]
+                """;
+        mockedContext = MockedContext.builder(editedJson.id())
+                .prFiles("appclient/test.txt");
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, editedJson, mockedContext))
+                .when().payloadFromString(editedJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHPullRequest mockedPR = mocks.pullRequest(editedJson.id());
+                    Mockito.verify(mockedPR).addLabels("appclient");
+                    // the files are listed for the configuration file check only, the rule matched its title
+                    Mockito.verify(mockedPR).listFiles();
                 });
     }
 }
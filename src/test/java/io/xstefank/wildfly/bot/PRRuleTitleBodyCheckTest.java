@@ -245,4 +245,33 @@ public class PRRuleTitleBodyCheckTest {
                     Util.verifyFormatSuccess(repo, gitHubJson);
                 });
     }
+
+    @Test
+    void testWordAndRegexRulesMatchedTogether() throws IOException {
+        gitHubJson = GitHubJson.builder(VALID_PR_TEMPLATE_JSON)
+                .title("[WFLY-00000] Upgrade RESTEasy and metrics")
+                .description("Hibernate_ORM is not a whole word, Micrometer-core is")
+                .build();
+        wildflyConfigFile = """
+                wildfly:
+                  rules:
+                    - title: "resteasy"
+                      notify: [user1]
+                    - body: "hibernate"
+                      notify: [user2]
+                    - titleBody: "micrometer"
+                      notify: [user3]
+                    - titleBody: "metrics|smallrye"
+                      notify: [user4]
+                """;
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    GHPullRequest mockedPR = mocks.pullRequest(gitHubJson.id());
+                    Mockito.verify(mockedPR).comment(ArgumentMatchers.argThat((String comment) -> comment.startsWith("/cc")
+                            && comment.contains("@user1") && !comment.contains("@user2")
+                            && comment.contains("@user3") && comment.contains("@user4")));
+                });
+    }
 }
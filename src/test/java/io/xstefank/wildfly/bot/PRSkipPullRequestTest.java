@@ -14,6 +14,7 @@ import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
 import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_COMMIT_MESSAGE;
 import static io.xstefank.wildfly.bot.utils.TestConstants.INVALID_TITLE;
 import static io.xstefank.wildfly.bot.utils.TestConstants.VALID_PR_TEMPLATE_JSON;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -54,8 +55,8 @@ public class PRSkipPullRequestTest {
                 .then().github(mocks -> {
                     verify(mocks.pullRequest(gitHubJson.id()), times(4)).getBody();
                     verify(mocks.pullRequest(gitHubJson.id())).listFiles();
-                    // Following invocations are used for logging
-                    verify(mocks.pullRequest(gitHubJson.id()), times(2)).getNumber();
+                    // Following invocations are used for logging, tracing and the keys of the event
+                    verify(mocks.pullRequest(gitHubJson.id()), atLeastOnce()).getNumber();
                     verifyNoMoreInteractions(mocks.pullRequest(gitHubJson.id()));
                 });
     }
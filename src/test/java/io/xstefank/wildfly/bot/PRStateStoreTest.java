@@ -0,0 +1,199 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkiverse.githubapp.testing.dsl.GitHubMockSetupContext;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.graphql.client.Response;
+import io.xstefank.wildfly.bot.config.WildFlyBotConfig;
+import io.xstefank.wildfly.bot.util.BotCommentIndex;
+import io.xstefank.wildfly.bot.util.PullRequestStateStore;
+import io.xstefank.wildfly.bot.utils.Action;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+import org.kohsuke.github.GHPullRequest;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+
+/**
+ * Tests for the state of the bot kept in the state store, while the in-memory index is disabled.
+ */
+@QuarkusTest
+@GitHubAppTest
+@TestProfile(PRStateStoreTest.StateStoreEnabledProfile.class)
+public class PRStateStoreTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - id: "Title"
+                  title: "WFLY"
+                  notify: [%s]
+              format:
+                title:
+                  enabled: false
+                commit:
+                  enabled: false
+            """;
+
+    private static final String labelConfigFile = """
+            wildfly:
+              rules:
+                - id: "Title"
+                  title: "WFLY"
+                  notify: [user1]
+                  labels: [label1]
+              format:
+                title:
+                  enabled: false
+                commit:
+                  enabled: false
+            """;
+
+    private static final String NODE_ID = "IC_0";
+
+    private static final long INSTALLATION_ID = 22950279L;
+
+    private static GitHubJson gitHubJson;
+
+    @Inject
+    WildFlyBotConfig wildFlyBotConfig;
+
+    @Inject
+    BotCommentIndex botCommentIndex;
+
+    @Inject
+    PullRequestStateStore stateStore;
+
+    public static class StateStoreEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // a fresh store for every run, so the state of a previous run is never read
+            return Map.of("wildfly-bot.state-store-path", "target/pull-request-state-test-" + UUID.randomUUID() + ".mv.db");
+        }
+    }
+
+    @BeforeEach
+    void invalidateState() throws IOException {
+        // built for every test, as a payload built by a previous test replaces it
+        gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+        botCommentIndex.invalidate(pullRequest());
+    }
+
+    @Test
+    void testStoredCommentUpdatedWithoutListingComments() throws IOException {
+        storeComment();
+
+        given().github(mocks -> {
+            Util.mockRepo(mocks, wildflyConfigFile.formatted("user1, user2"), gitHubJson, mockedContext());
+            mockMutation(mocks);
+        })
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id()), Mockito.never()).listComments();
+                    try {
+                        Mockito.verify(mocks.installationGraphQLClient(INSTALLATION_ID)).executeSync(
+                                ArgumentMatchers.contains("updateIssueComment"),
+                                ArgumentMatchers.eq(Map.of("id", NODE_ID, "body", "/cc @user1, @user2")));
+                    } catch (ExecutionException | InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    @Test
+    void testStateKeptWhenPullRequestClosed() throws IOException {
+        storeComment();
+        GitHubJson closedJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON)
+                .action(Action.CLOSED)
+                .build();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile.formatted("user1"), closedJson))
+                .when().payloadFromString(closedJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Mockito.verifyNoInteractions(mocks.repository(TestConstants.TEST_REPO)));
+
+        Map<BotCommentIndex.Kind, BotCommentIndex.BotComment> comments = stateStore.comments(pullRequest());
+        Assertions.assertNotNull(comments);
+        Assertions.assertEquals(NODE_ID, comments.get(BotCommentIndex.Kind.CC).nodeId());
+    }
+
+    @Test
+    void testStateReloadedAfterRestart() throws IOException {
+        given().github(mocks -> Util.mockRepo(mocks, labelConfigFile, gitHubJson, mockedContext()))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Mockito.verify(mocks.pullRequest(gitHubJson.id())).addLabels("label1"));
+
+        restartStateStore();
+
+        Assertions.assertEquals(gitHubJson.commitSHA(), stateStore.headSha(pullRequest()));
+        Assertions.assertEquals(Set.of("label1"), stateStore.labels(pullRequest()));
+        Map<BotCommentIndex.Kind, BotCommentIndex.BotComment> comments = stateStore.comments(pullRequest());
+        Assertions.assertNotNull(comments);
+        Assertions.assertEquals(NODE_ID, comments.get(BotCommentIndex.Kind.CC).nodeId());
+    }
+
+    /**
+     * Destroys the store, so it is opened again from its file the same way as after a restart of the bot.
+     */
+    private static void restartStateStore() {
+        InjectableBean<PullRequestStateStore> bean = Arc.container().instance(PullRequestStateStore.class).getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+    }
+
+    /**
+     * Lists the comments of the pull request once, so the "/cc" comment of the bot is stored.
+     */
+    private void storeComment() throws IOException {
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile.formatted("user1"), gitHubJson, mockedContext()))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> {
+                    Mockito.verify(mocks.pullRequest(gitHubJson.id())).listComments();
+                    Mockito.verify(mocks.issueComment(0)).update("/cc @user1");
+                });
+    }
+
+    private static GHPullRequest pullRequest() {
+        GHPullRequest pullRequest = Mockito.mock(GHPullRequest.class);
+        Mockito.when(pullRequest.getId()).thenReturn(gitHubJson.id());
+        return pullRequest;
+    }
+
+    private static void mockMutation(GitHubMockSetupContext mocks) {
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.hasError()).thenReturn(false);
+        try {
+            Mockito.when(mocks.installationGraphQLClient(INSTALLATION_ID)
+                    .executeSync(ArgumentMatchers.anyString(), ArgumentMatchers.anyMap())).thenReturn(response);
+        } catch (ExecutionException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockedContext mockedContext() {
+        return MockedContext.builder(gitHubJson.id())
+                .comment("/cc @user3", wildFlyBotConfig.githubName());
+    }
+}
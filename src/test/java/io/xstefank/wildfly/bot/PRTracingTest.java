@@ -0,0 +1,76 @@
+package io.xstefank.wildfly.bot;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkiverse.githubapp.testing.GitHubAppTest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.xstefank.wildfly.bot.utils.GitHubJson;
+import io.xstefank.wildfly.bot.utils.InMemorySpans;
+import io.xstefank.wildfly.bot.utils.MockedContext;
+import io.xstefank.wildfly.bot.utils.TestConstants;
+import io.xstefank.wildfly.bot.utils.Util;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHEvent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static io.quarkiverse.githubapp.testing.GitHubAppTesting.given;
+import static io.xstefank.wildfly.bot.utils.TestConstants.TEST_REPO;
+
+/**
+ * Tests for the traces of the webhook deliveries.
+ */
+@QuarkusTest
+@GitHubAppTest
+public class PRTracingTest {
+
+    private static final String wildflyConfigFile = """
+            wildfly:
+              rules:
+                - title: "WFLY"
+                  notify: [user1]
+              format:
+                commit:
+                  enabled: false
+            """;
+
+    @Inject
+    InMemorySpans spans;
+
+    @Test
+    void testDeliveryTraced() throws IOException {
+        GitHubJson gitHubJson = GitHubJson.builder(TestConstants.VALID_PR_TEMPLATE_JSON).build();
+        MockedContext mockedContext = MockedContext.builder(gitHubJson.id())
+                .users("user1");
+        spans.exporter().reset();
+
+        given().github(mocks -> Util.mockRepo(mocks, wildflyConfigFile, gitHubJson, mockedContext))
+                .when().payloadFromString(gitHubJson.jsonString())
+                .event(GHEvent.PULL_REQUEST)
+                .then().github(mocks -> Util.verifyFormatSuccess(mocks.repository(TEST_REPO), gitHubJson));
+
+        List<SpanData> finishedSpans = spans.exporter().getFinishedSpanItems();
+        SpanData delivery = span(finishedSpans, "webhook pull_request").orElseThrow();
+        Assertions.assertFalse(delivery.getParentSpanContext().isValid());
+        Assertions.assertEquals(TEST_REPO, delivery.getAttributes().get(AttributeKey.stringKey("github.repository")));
+
+        SpanData format = span(finishedSpans, "processor format").orElseThrow();
+        SpanData rule = span(finishedSpans, "processor rule").orElseThrow();
+        Assertions.assertEquals(delivery.getSpanId(), format.getParentSpanId());
+        Assertions.assertEquals(delivery.getSpanId(), rule.getParentSpanId());
+        Assertions.assertEquals(delivery.getTraceId(), format.getTraceId());
+
+        SpanData titleCheck = span(finishedSpans, "check title").orElseThrow();
+        Assertions.assertEquals(format.getSpanId(), titleCheck.getParentSpanId());
+    }
+
+    private static Optional<SpanData> span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst();
+    }
+}
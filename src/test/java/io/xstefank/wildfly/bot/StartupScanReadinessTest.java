@@ -0,0 +1,120 @@
+package io.xstefank.wildfly.bot;
+
+import io.quarkiverse.githubapp.GitHubClientProvider;
+import io.quarkiverse.githubapp.testing.GitHubAppMockito;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.xstefank.wildfly.bot.health.StartupScanReadinessCheck;
+import io.xstefank.wildfly.bot.util.GitHubRateLimiter;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHApp;
+import org.kohsuke.github.GHAppInstallation;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterable;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the readiness of the application while the installed repositories are validated.
+ */
+@QuarkusTest
+@TestProfile(StartupScanReadinessTest.ReadinessScanProfile.class)
+public class StartupScanReadinessTest {
+
+    @Inject
+    Event<StartupEvent> startupEvent;
+
+    @InjectMock
+    GitHubClientProvider clientProvider;
+
+    @Inject
+    @Readiness
+    StartupScanReadinessCheck readinessCheck;
+
+    @Inject
+    GitHubRateLimiter rateLimiter;
+
+    public static class ReadinessScanProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("wildfly-bot.startup-scan-mode", "readiness");
+        }
+    }
+
+    @Test
+    public void testNotReadyUntilScanCompletes() throws IOException, InterruptedException {
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch releaseScan = new CountDownLatch(1);
+        GitHub mockGitHub = mock(GitHub.class);
+        GHApp mockGHApp = mock(GHApp.class);
+        when(clientProvider.getApplicationClient()).thenAnswer(invocation -> {
+            scanStarted.countDown();
+            releaseScan.await(10, TimeUnit.SECONDS);
+            return mockGitHub;
+        });
+        when(mockGitHub.getApp()).thenReturn(mockGHApp);
+        PagedIterable<GHAppInstallation> noInstallations = GitHubAppMockito.mockPagedIterable();
+        when(mockGHApp.listInstallations()).thenReturn(noInstallations);
+
+        startupEvent.fire(new StartupEvent());
+
+        Assertions.assertTrue(scanStarted.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(HealthCheckResponse.Status.DOWN, readinessCheck.call().getStatus());
+
+        releaseScan.countDown();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (readinessCheck.call().getStatus() == HealthCheckResponse.Status.DOWN
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(HealthCheckResponse.Status.UP, readinessCheck.call().getStatus());
+    }
+
+    @Test
+    public void testExhaustedInstallationPostponed() throws IOException, InterruptedException {
+        GitHub mockGitHub = mock(GitHub.class);
+        GHApp mockGHApp = mock(GHApp.class);
+        GHAppInstallation mockInstallation = mock(GHAppInstallation.class);
+        GitHub installationGitHub = mock(GitHub.class);
+        when(clientProvider.getApplicationClient()).thenReturn(mockGitHub);
+        when(mockGitHub.getApp()).thenReturn(mockGHApp);
+        when(mockInstallation.getId()).thenReturn(6L);
+        PagedIterable<GHAppInstallation> installations = GitHubAppMockito.mockPagedIterable(mockInstallation);
+        when(mockGHApp.listInstallations()).thenReturn(installations);
+        when(clientProvider.getInstallationClient(6L)).thenReturn(installationGitHub);
+
+        GHRateLimit rateLimit = mock(GHRateLimit.class);
+        when(rateLimit.getCore()).thenReturn(new GHRateLimit.Record(5000, 10,
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600));
+        when(installationGitHub.lastRateLimit()).thenReturn(rateLimit);
+        rateLimiter.update(6L, installationGitHub);
+
+        startupEvent.fire(new StartupEvent());
+
+        // the validation does not wait for the reset of the rate limit
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (readinessCheck.call().getStatus() == HealthCheckResponse.Status.DOWN
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertEquals(HealthCheckResponse.Status.UP, readinessCheck.call().getStatus());
+        verify(installationGitHub, never()).getInstallation();
+    }
+}
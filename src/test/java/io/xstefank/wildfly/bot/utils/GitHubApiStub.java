@@ -0,0 +1,113 @@
+package io.xstefank.wildfly.bot.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the GitHub REST API requests of the app and of the installation {@link #INSTALLATION_ID},
+ * so the GitHub clients created by the application can be tested without mocking them. Every response
+ * carries the rate limit headers with {@link #remaining()} requests remaining. The labels of a repository
+ * are listed with the {@link #LABELS_ETAG} ETag and not listed again if the request sends it.
+ */
+public class GitHubApiStub implements QuarkusTestResourceLifecycleManager {
+
+    public static final long INSTALLATION_ID = 1L;
+    public static final String INSTALLATION_TOKEN = "installation-token";
+    public static final int RATE_LIMIT = 5000;
+    public static final String LABELS_ETAG = "\"labels\"";
+
+    private static final List<Request> requests = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger remaining = new AtomicInteger(RATE_LIMIT);
+
+    private HttpServer server;
+
+    public record Request(String method, String path, String authorization, String ifNoneMatch, int status) {
+    }
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/", this::handle);
+        server.start();
+        return Map.of("quarkus.github-app.rest-api-endpoint",
+                "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    public static List<Request> requests() {
+        return requests;
+    }
+
+    public static int remaining() {
+        return remaining.get();
+    }
+
+    public static void remaining(int remainingRequests) {
+        remaining.set(remainingRequests);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+
+        String installationPath = "/app/installations/" + INSTALLATION_ID;
+        String body;
+        if (path.matches("/repos/[^/]+/[^/]+/labels")) {
+            exchange.getResponseHeaders().add("ETag", LABELS_ETAG);
+            body = LABELS_ETAG.equals(ifNoneMatch) ? "" : "[{\"name\": \"label1\"}]";
+        } else if (path.equals("/app")) {
+            body = "{\"id\": 0, \"slug\": \"wildfly-bot\"}";
+        } else if (path.equals("/app/installations")) {
+            body = "[]";
+        } else if (path.equals(installationPath)) {
+            body = "{\"id\": %d, \"app_id\": 0}".formatted(INSTALLATION_ID);
+        } else if (method.equals("POST") && path.equals(installationPath + "/access_tokens")) {
+            body = "{\"token\": \"%s\", \"expires_at\": \"2099-01-01T00:00:00Z\"}".formatted(INSTALLATION_TOKEN);
+        } else if (path.startsWith("/repos/")) {
+            String fullName = path.substring("/repos/".length());
+            body = "{\"id\": 1, \"name\": \"%s\", \"full_name\": \"%s\", \"owner\": {\"login\": \"%s\"}}"
+                    .formatted(fullName.substring(fullName.indexOf('/') + 1), fullName,
+                            fullName.substring(0, fullName.indexOf('/')));
+        } else {
+            body = null;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(RATE_LIMIT));
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(remaining.get()));
+        exchange.getResponseHeaders().add("X-RateLimit-Reset",
+                String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600));
+        int status = body == null ? 404 : body.isEmpty() ? 304 : method.equals("POST") ? 201 : 200;
+        requests.add(new Request(method, path, exchange.getRequestHeaders().getFirst("Authorization"), ifNoneMatch,
+                status));
+        byte[] bytes = (body == null ? "{\"message\": \"Not Found\"}" : body).getBytes(StandardCharsets.UTF_8);
+        // a response without a body is sent with the length -1
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -14,10 +14,12 @@ import java.io.IOException;
 public class GitHubJson {
 
     private static final String ACTION = "action";
+    private static final String BASE = "base";
     private static final String BODY = "body";
     private static final String HEAD = "head";
     private static final String ID = "id";
     private static final String PULL_REQUEST = "pull_request";
+    private static final String REF = "ref";
     private static final String SHA = "sha";
     private static final String TITLE = "title";
     private static final String USER = "user";
@@ -89,6 +91,16 @@ public class GitHubJson {
             return this;
         }
 
+        public Builder commitSHA(String sha) {
+            ((ObjectNode) this.jsonFile.get(PULL_REQUEST).get(HEAD)).put(SHA, sha);
+            return this;
+        }
+
+        public Builder baseRef(String ref) {
+            ((ObjectNode) this.jsonFile.get(PULL_REQUEST).get(BASE)).put(REF, ref);
+            return this;
+        }
+
         public Builder userLogin(String login) {
             ((ObjectNode) this.jsonFile.get(PULL_REQUEST).get(USER)).put(LOGIN, login);
             return this;
@@ -0,0 +1,27 @@
+package io.xstefank.wildfly.bot.utils;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Collects the finished spans in memory, so the tests can verify the traces.
+ */
+@ApplicationScoped
+public class InMemorySpans {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    @Produces
+    @Singleton
+    SpanProcessor spanProcessor() {
+        return SimpleSpanProcessor.create(exporter);
+    }
+
+    public InMemorySpanExporter exporter() {
+        return exporter;
+    }
+}
@@ -3,6 +3,7 @@ package io.xstefank.wildfly.bot.utils;
 import io.quarkiverse.githubapp.testing.GitHubAppMockito;
 import io.quarkiverse.githubapp.testing.dsl.GitHubMockContext;
 import io.smallrye.mutiny.tuples.Tuple2;
+import org.kohsuke.github.GHBranch;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHIssueComment;
@@ -11,6 +12,8 @@ import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHPullRequestCommitDetail;
 import org.kohsuke.github.GHPullRequestFileDetail;
 import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
 import org.kohsuke.github.GHUser;
 import org.kohsuke.github.HttpException;
 import org.kohsuke.github.PagedIterable;
@@ -32,6 +35,9 @@ import static io.xstefank.wildfly.bot.utils.TestConstants.INSTALLATION_ID;
 
 public class MockedContext {
 
+    public static final String DEFAULT_BRANCH = "main";
+    public static final String DEFAULT_BRANCH_SHA = "0d1f2e3c4b5a69788796a5b4c3d2e1f0a9b8c7d6";
+
     private final long pullRequest;
     private Set<String> prFiles = new LinkedHashSet<>();
     private final List<Tuple2<String, String>> comments = new ArrayList<>();
@@ -44,6 +50,7 @@ public class MockedContext {
     private String repository = "xstefank/wildfly";
     private Boolean mergeable = Boolean.TRUE;
     private boolean isDraft = false;
+    private boolean truncatedTree = false;
 
     private MockedContext(long pullRequest) {
         this.pullRequest = pullRequest;
@@ -113,6 +120,14 @@ public class MockedContext {
         return this;
     }
 
+    /**
+     * Makes the recursive tree of the repository truncated, so the directories are requested one by one.
+     */
+    public MockedContext truncatedTree() {
+        this.truncatedTree = true;
+        return this;
+    }
+
     public MockedContext draft() {
         this.isDraft = true;
         return this;
@@ -143,6 +158,7 @@ public class MockedContext {
             Mockito.when(user.getLogin()).thenReturn(commentTuple.getItem2());
             Mockito.when(comment.getBody()).thenReturn(commentTuple.getItem1());
             Mockito.when(comment.getUser()).thenReturn(user);
+            Mockito.when(comment.getNodeId()).thenReturn("IC_" + i);
 
             mockedComments.add(comment);
         }
@@ -200,9 +216,32 @@ public class MockedContext {
 
         Mockito.when(repository.getDirectoryContent(ArgumentMatchers.anyString())).thenAnswer(this::getDirectoryContentMock);
 
+        GHBranch defaultBranch = Mockito.mock(GHBranch.class);
+        Mockito.when(repository.getDefaultBranch()).thenReturn(DEFAULT_BRANCH);
+        Mockito.when(repository.getBranch(DEFAULT_BRANCH)).thenReturn(defaultBranch);
+        Mockito.when(defaultBranch.getSHA1()).thenReturn(DEFAULT_BRANCH_SHA);
+        List<GHTreeEntry> treeEntries = new ArrayList<>();
+        for (String directory : repositoryDirectories) {
+            treeEntries.add(mockTreeEntry(directory, "tree"));
+        }
+        for (String file : repositoryFiles) {
+            treeEntries.add(mockTreeEntry(file, "blob"));
+        }
+        GHTree tree = Mockito.mock(GHTree.class);
+        Mockito.when(tree.getTree()).thenReturn(treeEntries);
+        Mockito.when(tree.isTruncated()).thenReturn(truncatedTree);
+        Mockito.when(repository.getTreeRecursive(DEFAULT_BRANCH_SHA, 1)).thenReturn(tree);
+
         Mockito.when(pullRequest.isDraft()).thenReturn(isDraft);
     }
 
+    private static GHTreeEntry mockTreeEntry(String path, String type) {
+        GHTreeEntry entry = Mockito.mock(GHTreeEntry.class);
+        Mockito.when(entry.getPath()).thenReturn(path);
+        Mockito.when(entry.getType()).thenReturn(type);
+        return entry;
+    }
+
     private List<GHContent> getDirectoryContentMock(InvocationOnMock invocationOnMock)
             throws HttpException, GHFileNotFoundException {
         if (repositoryDirectories.contains((String) invocationOnMock.getArgument(0))) {